@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.openwebbeans.gradle.index;
+
+import org.gradle.api.tasks.JavaExec;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * Writes the OpenWebBeans bean archive index (META-INF/openwebbeans/index.bin) of the compiled classes.
+ *
+ * <p>The indexer gets forked, so the classpath of the task must contain openwebbeans-impl:</p>
+ * <pre>
+ * task owbIndex(type: org.apache.openwebbeans.gradle.index.OpenWebBeansIndexTask) {
+ *     classesDirectory = sourceSets.main.output.classesDir
+ *     classpath = configurations.owbIndexer
+ * }
+ * classes.finalizedBy owbIndex
+ * </pre>
+ */
+// note: like for the shadow transformer we must not bring webbeans-impl in the gradle classpath
+public class OpenWebBeansIndexTask extends JavaExec
+{
+    private static final String INDEXER = "org.apache.webbeans.corespi.scanner.index.BeanArchiveIndexer";
+
+    private File classesDirectory;
+
+    public OpenWebBeansIndexTask()
+    {
+        setMain(INDEXER);
+    }
+
+    @Override
+    @TaskAction
+    public void exec()
+    {
+        if (classesDirectory == null)
+        {
+            throw new IllegalStateException("classesDirectory must be set");
+        }
+        if (!classesDirectory.isDirectory())
+        {
+            getLogger().info("{} doesn't exist, no bean archive index written", classesDirectory);
+            return;
+        }
+
+        setArgs(Collections.singletonList(classesDirectory.getAbsolutePath()));
+        super.exec();
+    }
+
+    public File getClassesDirectory()
+    {
+        return classesDirectory;
+    }
+
+    public void setClassesDirectory(File classesDirectory)
+    {
+        this.classesDirectory = classesDirectory;
+    }
+}
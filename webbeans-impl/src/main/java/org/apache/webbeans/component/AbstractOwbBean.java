@@ -24,6 +24,7 @@ import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.container.SerializableBean;
 import org.apache.webbeans.context.creational.CreationalContextImpl;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.webbeans.portable.InjectionTargetImpl;
 
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.CreationalContext;
@@ -73,6 +74,12 @@ public abstract class AbstractOwbBean<T>
      * @see #getId()
      */
     protected String passivatingId;
+
+    /**
+     * Dense ordinal of this bean, -1 if not yet registered.
+     * @see #getOrdinal()
+     */
+    private int ordinal = -1;
     
     protected final WebBeansContext webBeansContext;
 
@@ -113,12 +120,19 @@ public abstract class AbstractOwbBean<T>
     {
         try
         {
+            Producer<T> producer = getProducer();
+            boolean dependent = getScope().equals(Dependent.class);
+            if (dependent && producer instanceof InjectionTargetImpl && ((InjectionTargetImpl<T>) producer).isTrivial())
+            {
+                // nothing to inject, intercept or destroy, so the instance doesn't need to get tracked either
+                return ((InjectionTargetImpl<T>) producer).produceTrivialInstance();
+            }
+
             if(!(creationalContext instanceof CreationalContextImpl))
             {
                 creationalContext = webBeansContext.getCreationalContextFactory().wrappedCreationalContext(creationalContext, this);
             }
 
-            Producer<T> producer = getProducer();
             T instance = producer.produce(creationalContext);
             if (producer instanceof InjectionTarget && instance != null) // @AroundConstruct can skip proceed and then it returns null
             {
@@ -126,7 +140,7 @@ public abstract class AbstractOwbBean<T>
                 injectionTarget.inject(instance, creationalContext);
                 injectionTarget.postConstruct(instance);
             }
-            if (getScope().equals(Dependent.class) && instance != null)
+            if (dependent && instance != null)
             {
                 ((CreationalContextImpl<T>)creationalContext).addDependent(this, instance);
             }
@@ -230,6 +244,28 @@ public abstract class AbstractOwbBean<T>
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+    /**
+     * Assigns the ordinal of this bean. Only the first assignment is taken into account
+     * to keep the ordinal stable for the lifetime of the bean.
+     * @param ordinal the dense container unique ordinal
+     */
+    public void setOrdinal(int ordinal)
+    {
+        if (this.ordinal < 0)
+        {
+            this.ordinal = ordinal;
+        }
+    }
+
     @Override
     public boolean isPassivationCapable()
     {
@@ -28,12 +28,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 import javax.enterprise.inject.spi.BeanAttributes;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.container.InjectionTargetFactoryImpl;
 import org.apache.webbeans.container.InterceptorInjectionTargetFactory;
+import org.apache.webbeans.intercept.InterceptorMethodInvoker;
 import org.apache.webbeans.util.ExceptionUtil;
 
 /**
@@ -52,11 +54,22 @@ public abstract class InterceptorBean<T> extends InjectionTargetBean<T> implemen
      */
     private Map<InterceptionType, Method[]> interceptionMethods;
 
+    /**
+     * The invokers for the {@link #interceptionMethods}, same order.
+     * An entry is {@code null} if the method doesn't take an InvocationContext.
+     */
+    private Map<InterceptionType, InterceptorMethodInvoker[]> interceptionInvokers;
+
     /**
      * This is for performance reasons
      */
     protected Method aroundInvokeMethod;
 
+    /**
+     * The invoker for the {@link #aroundInvokeMethod}
+     */
+    private InterceptorMethodInvoker aroundInvokeInvoker;
+
     protected InterceptorBean(WebBeansContext webBeansContext,
                               AnnotatedType<T> annotatedType,
                               BeanAttributes<T> beanAttributes,
@@ -72,21 +85,28 @@ public abstract class InterceptorBean<T> extends InjectionTargetBean<T> implemen
                 factory);
         this.interceptionMethods = Collections.unmodifiableMap(interceptionMethods);
 
-        for (Method[] methods: interceptionMethods.values())
+        interceptionInvokers = new EnumMap<>(InterceptionType.class);
+        for (Map.Entry<InterceptionType, Method[]> entry : interceptionMethods.entrySet())
         {
-            for (Method method: methods)
+            Method[] methods = entry.getValue();
+            InterceptorMethodInvoker[] invokers = new InterceptorMethodInvoker[methods.length];
+            for (int i = 0; i < methods.length; i++)
             {
+                Method method = methods[i];
                 if (!method.isAccessible())
                 {
                     method.setAccessible(true);
                 }
+                invokers[i] = InterceptorMethodInvoker.of(method);
             }
+            interceptionInvokers.put(entry.getKey(), invokers);
         }
 
         Method[] aroundInvokeMethods = interceptionMethods.get(InterceptionType.AROUND_INVOKE);
         if (aroundInvokeMethods != null && aroundInvokeMethods.length == 1)
         {
             aroundInvokeMethod = aroundInvokeMethods[0];
+            aroundInvokeInvoker = interceptionInvokers.get(InterceptionType.AROUND_INVOKE)[0];
         }
     }
 
@@ -131,25 +151,25 @@ public abstract class InterceptorBean<T> extends InjectionTargetBean<T> implemen
     {
         try
         {
-            if (InterceptionType.AROUND_INVOKE == interceptionType && aroundInvokeMethod != null)
+            if (InterceptionType.AROUND_INVOKE == interceptionType && aroundInvokeInvoker != null)
             {
-                return aroundInvokeMethod.invoke(instance, invocationContext);
+                return aroundInvokeInvoker.invoke(instance, invocationContext);
             }
 
-            Method[] interceptorMethods = getInterceptorMethods(interceptionType);
-            if (interceptorMethods == null || interceptorMethods.length == 0)
+            InterceptorMethodInvoker[] invokers = interceptionInvokers.get(interceptionType);
+            if (invokers == null || invokers.length == 0)
             {
                 // this very interceptor doesn't support this interception type.
                 // this might happen for lifecycle callback methods
                 // let's continue with the next interceptor
                 return invocationContext.proceed();
             }
-            else if (interceptorMethods.length == 1)
+            else if (invokers.length == 1)
             {
                 // directly invoke the interceptor method with the given InvocationContext
-                if (interceptorMethods[0].getParameterTypes().length == 1)
+                if (invokers[0] != null)
                 {
-                    return interceptorMethods[0].invoke(instance, invocationContext);
+                    return invokers[0].invoke(instance, invocationContext);
                 } // else it can be a @PostContruct void pc(); which shouldn't be called from here
                 else
                 {
@@ -165,14 +185,12 @@ public abstract class InterceptorBean<T> extends InjectionTargetBean<T> implemen
                     // this happens while we recurse through the interceptors which have multiple interceptor-methods
                     MultiMethodInvocationContext mmInvocationContext = (MultiMethodInvocationContext) invocationContext;
                     int methodIndex = mmInvocationContext.getCurrentInterceptorIdx();
-                    if (methodIndex < (interceptorMethods.length -1))
-                    {
-                        return interceptorMethods[methodIndex].invoke(instance, invocationContext);
-                    }
-                    else
+                    InvocationContext ctx = methodIndex < (invokers.length - 1) ? invocationContext : mmInvocationContext.getWrapped();
+                    if (invokers[methodIndex] != null)
                     {
-                        return interceptorMethods[methodIndex].invoke(instance, mmInvocationContext.getWrapped());
+                        return invokers[methodIndex].invoke(instance, ctx);
                     }
+                    return getInterceptorMethods(interceptionType)[methodIndex].invoke(instance, ctx);
                 }
                 else
                 {
@@ -81,6 +81,19 @@ public interface OwbBean<T> extends Bean<T>
      * @return id of the bean
      */
     String getId();
+
+    /**
+     * Gets the ordinal of the bean.
+     * This is a dense int which is unique inside a {@link WebBeansContext}
+     * and gets assigned once the bean got added to the
+     * {@link org.apache.webbeans.container.BeanManagerImpl}.
+     * It can be used as key in int indexed structures instead of the bean itself.
+     * @return the ordinal of the bean or {@code -1} if none got assigned
+     */
+    default int getOrdinal()
+    {
+        return -1;
+    }
     
     /**
      * True if passivation capable false otherwise.
@@ -42,6 +42,7 @@ import org.apache.webbeans.configurator.AnnotatedTypeConfiguratorImpl;
 import org.apache.webbeans.container.BeanManagerImpl;
 import org.apache.webbeans.container.InjectableBeanManager;
 import org.apache.webbeans.container.InjectionResolver;
+import org.apache.webbeans.corespi.scanner.AbstractMetaDataDiscovery;
 import org.apache.webbeans.corespi.se.DefaultJndiService;
 import org.apache.webbeans.decorator.DecoratorsManager;
 import org.apache.webbeans.deployment.StereoTypeManager;
@@ -62,6 +63,7 @@ import javax.enterprise.inject.spi.DefinitionException;
 import org.apache.webbeans.inject.AlternativesManager;
 import org.apache.webbeans.intercept.InterceptorsManager;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
+import org.apache.webbeans.portable.AbstractAnnotated;
 import org.apache.webbeans.portable.AbstractProducer;
 import org.apache.webbeans.portable.AnnotatedElementFactory;
 import org.apache.webbeans.portable.BaseProducerProducer;
@@ -86,6 +88,7 @@ import org.apache.webbeans.util.ClassUtil;
 import org.apache.webbeans.util.ExceptionUtil;
 import org.apache.webbeans.util.GenericsUtil;
 import org.apache.webbeans.util.InjectionExceptionUtil;
+import org.apache.webbeans.util.ParallelUtil;
 import org.apache.webbeans.util.SpecializationUtil;
 import org.apache.webbeans.util.WebBeansConstants;
 import org.apache.webbeans.util.WebBeansUtil;
@@ -144,31 +147,6 @@ public class BeansDeployer
     private static final Logger logger = WebBeansLoggerFacade.getLogger(BeansDeployer.class);
     public static final String JAVAX_ENTERPRISE_PACKAGE = "javax.enterprise.";
 
-    private static final Method GET_PACKAGE;
-    static
-    {
-        Method getPackage;
-        try
-        {
-            getPackage = ClassLoader.class.getDeclaredMethod("getDefinedPackage", String.class);
-            getPackage.setAccessible(true);
-        }
-        catch (NoSuchMethodException e)
-        {
-            try
-            {
-                getPackage = ClassLoader.class.getDeclaredMethod("getPackage", String.class);
-                getPackage.setAccessible(true);
-            }
-            catch (NoSuchMethodException ex)
-            {
-                throw new IllegalStateException(ex);
-            }
-        }
-        GET_PACKAGE = getPackage;
-    }
-
-
     /**Deployment is started or not*/
     protected boolean deployed;
 
@@ -183,7 +161,9 @@ public class BeansDeployer
     private final DecoratorsManager decoratorsManager;
     private final InterceptorsManager interceptorsManager;
 
-    private final Map<String, Boolean> packageVetoCache = new HashMap<>();
+    private final PackageVetoes packageVetoes = new PackageVetoes();
+
+    private final BootProfiler bootProfiler;
 
     /**
      * This BdaInfo is used for all manually added annotated types or in case
@@ -209,6 +189,16 @@ public class BeansDeployer
 
         defaultBeanArchiveInformation = new DefaultBeanArchiveInformation("default");
         defaultBeanArchiveInformation.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
+
+        bootProfiler = new BootProfiler(webBeansContext.getOpenWebBeansConfiguration().isBootProfilingEnabled());
+    }
+
+    /**
+     * @return the profiler of this deployment, it is a no-op if boot profiling is disabled
+     */
+    public BootProfiler getBootProfiler()
+    {
+        return bootProfiler;
     }
 
     /**
@@ -225,8 +215,14 @@ public class BeansDeployer
         try
         {
             if (!deployed)
-            {                
+            {
+                if (bootProfiler.isEnabled())
+                {
+                    webBeansContext.getNotificationManager().setBootProfiler(bootProfiler);
+                }
+
                 //Load Extensions
+                bootProfiler.begin("loadExtensions");
                 webBeansContext.getExtensionLoader().loadExtensionServices();
 
                 // Bind manager
@@ -249,6 +245,7 @@ public class BeansDeployer
                 webBeansContext.getBeanManagerImpl().addInternalBean(webBeansContext.getWebBeansUtil().getRequestContextControllerBean());
 
                 //Fire Event
+                bootProfiler.begin("beforeBeanDiscovery");
                 fireBeforeBeanDiscoveryEvent();
                 
                 //Configure Default Beans
@@ -258,6 +255,8 @@ public class BeansDeployer
 
                 List<AnnotatedType<?>> globalBdaAnnotatedTypes = annotatedTypesPerBda.get(defaultBeanArchiveInformation);
 
+                bootProfiler.begin("afterTypeDiscovery");
+
                 // Deploy additional Annotated Types which got added via BeforeBeanDiscovery#addAnnotatedType
                 addAdditionalAnnotatedTypes(webBeansContext.getBeanManagerImpl().getAdditionalAnnotatedTypes(), globalBdaAnnotatedTypes);
 
@@ -272,12 +271,25 @@ public class BeansDeployer
                 addAdditionalAnnotatedTypes(fireAfterTypeDiscoveryEvent(), globalBdaAnnotatedTypes);
 
 
+                bootProfiler.begin("beanAttributes");
                 Map<BeanArchiveInformation, Map<AnnotatedType<?>, ExtendedBeanAttributes<?>>> beanAttributesPerBda
                     = getBeanAttributes(annotatedTypesPerBda);
+                if (bootProfiler.isEnabled())
+                {
+                    for (List<AnnotatedType<?>> annotatedTypes : annotatedTypesPerBda.values())
+                    {
+                        bootProfiler.count("annotatedTypes", annotatedTypes.size());
+                    }
+                    for (Map<AnnotatedType<?>, ExtendedBeanAttributes<?>> beanAttributes : beanAttributesPerBda.values())
+                    {
+                        bootProfiler.count("beanAttributes", beanAttributes.size());
+                    }
+                }
 
                 // shouldn't be used anymore, view is now beanAttributes
                 annotatedTypesPerBda.clear();
 
+                bootProfiler.begin("specialization");
                 SpecializationUtil specializationUtil = new SpecializationUtil(webBeansContext);
                 specializationUtil.removeDisabledBeanAttributes(beanAttributesPerBda, null, true);
 
@@ -309,6 +321,7 @@ public class BeansDeployer
                         false);
 
                 // create beans from the discovered AnnotatedTypes
+                bootProfiler.begin("deployFromBeanAttributes");
                 deployFromBeanAttributes(beanAttributesPerBda);
 
                 configureProducerMethodSpecializations();
@@ -317,11 +330,13 @@ public class BeansDeployer
                 removeDisabledBeans();
                 
                 // We are finally done with our bean discovery
+                bootProfiler.begin("afterBeanDiscovery");
                 fireAfterBeanDiscoveryEvent();
 
                 // activate InjectionResolver cache now
                 webBeansContext.getBeanManagerImpl().getInjectionResolver().setStartup(false);
                 
+                bootProfiler.begin("validation");
                 validateAlternatives(beanAttributesPerBda);
 
                 validateInjectionPoints();
@@ -341,14 +356,36 @@ public class BeansDeployer
                 }
 
                 // fire event
+                bootProfiler.begin("afterDeploymentValidation");
                 fireAfterDeploymentValidationEvent();
 
 
                 // do some cleanup after the deployment
+                bootProfiler.begin("cleanup");
                 scanner.release();
                 webBeansContext.getAnnotatedElementFactory().clear();
                 webBeansContext.getNotificationManager().clearCaches();
                 webBeansContext.getAnnotationManager().clearCaches();
+
+                if (webBeansContext.getOpenWebBeansConfiguration().isCompactAfterBoot())
+                {
+                    bootProfiler.begin("compact");
+                    compactAfterBoot();
+                }
+
+                if (bootProfiler.isEnabled())
+                {
+                    bootProfiler.end();
+                    bootProfiler.count("beans", webBeansContext.getBeanManagerImpl().getBeans().size());
+                    bootProfiler.count("observerMethods", webBeansContext.getNotificationManager().getObserverMethods().size());
+                    logger.info("OpenWebBeans boot profile: " + bootProfiler.toJson());
+                }
+
+                if (webBeansContext.getOpenWebBeansConfiguration().isRetainedHeapReportEnabled())
+                {
+                    logger.info("OpenWebBeans retained heap estimate in bytes: "
+                            + RetainedHeapReport.toJson(RetainedHeapReport.measure(webBeansContext)));
+                }
             }
         }
         catch (UnsatisfiedResolutionException e)
@@ -374,12 +411,49 @@ public class BeansDeployer
         }
         finally
         {
+            webBeansContext.getNotificationManager().setBootProfiler(null);
+
             //if bootstrapping failed, it doesn't make sense to do it again
             //esp. because #addInternalBean might have been called already and would cause an exception in the next run
             deployed = true;
         }
     }
 
+    /**
+     * Drop the metadata which is only needed during the deployment
+     * and shrink the AnnotatedTypes which stay reachable from the beans.
+     *
+     * @see OpenWebBeansConfiguration#COMPACT_AFTER_BOOT
+     */
+    private void compactAfterBoot()
+    {
+        if (scannerService instanceof AbstractMetaDataDiscovery)
+        {
+            ((AbstractMetaDataDiscovery) scannerService).compact();
+        }
+        beanArchiveService.release();
+
+        Set<Bean<?>> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+        beans.addAll(webBeansContext.getBeanManagerImpl().getBeans());
+        beans.addAll(interceptorsManager.getCdiInterceptors());
+        beans.addAll(decoratorsManager.getDecorators());
+
+        int compactedTypes = 0;
+        for (Bean<?> bean : beans)
+        {
+            if (bean instanceof InjectionTargetBean)
+            {
+                AnnotatedType<?> annotatedType = ((InjectionTargetBean<?>) bean).getAnnotatedType();
+                if (annotatedType instanceof AbstractAnnotated)
+                {
+                    ((AbstractAnnotated) annotatedType).compact();
+                    compactedTypes++;
+                }
+            }
+        }
+        bootProfiler.count("compactedAnnotatedTypes", compactedTypes);
+    }
+
     /**
      * Ensure "foo" and "foo.bar" conflict and is reported as a DeploymentException but foo.bar and foo.dummy don't conflict.
      */
@@ -431,25 +505,53 @@ public class BeansDeployer
         Map<BeanArchiveInformation, Map<AnnotatedType<?>, ExtendedBeanAttributes<?>>> beanAttributesPerBda
             = new HashMap<>();
 
+        Map<BeanArchiveInformation, List<BeanAttributesCandidate>> candidatesPerBda = new HashMap<>();
+        List<BeanAttributesCandidate> allCandidates = new ArrayList<>();
+        for (Map.Entry<BeanArchiveInformation, List<AnnotatedType<?>>> atEntry : annotatedTypesPerBda.entrySet())
+        {
+            boolean onlyScopedBeans = BeanDiscoveryMode.TRIM == atEntry.getKey().getBeanDiscoveryMode();
+
+            List<BeanAttributesCandidate> candidates = new ArrayList<>(atEntry.getValue().size());
+            for (AnnotatedType<?> at : atEntry.getValue())
+            {
+                BeanAttributesCandidate candidate = new BeanAttributesCandidate(at);
+                // plugins (EJB, JSF, ...) don't need to be thread safe, so they only get asked from the deploying thread
+                candidate.checkManagedBean(this, onlyScopedBeans);
+                candidates.add(candidate);
+            }
+            candidatesPerBda.put(atEntry.getKey(), candidates);
+            allCandidates.addAll(candidates);
+        }
+
+        // scope, qualifiers, name, stereotypes and types don't depend on other classes, so we compute them upfront on multiple threads
+        ParallelUtil.map(webBeansContext.getOpenWebBeansConfiguration().getBootParallelism(), allCandidates, candidate ->
+        {
+            if (candidate.bean && candidate.linkageError == null && candidate.failure == null)
+            {
+                candidate.prepare(this);
+            }
+            return candidate;
+        });
+
+        // ProcessBeanAttributes gets fired in the original order
         for (Map.Entry<BeanArchiveInformation, List<AnnotatedType<?>>> atEntry : annotatedTypesPerBda.entrySet())
         {
             BeanArchiveInformation bdaInfo = atEntry.getKey();
             List<AnnotatedType<?>> annotatedTypes = atEntry.getValue();
 
-            boolean onlyScopedBeans = BeanDiscoveryMode.TRIM == bdaInfo.getBeanDiscoveryMode();
-
             Map<AnnotatedType<?>, ExtendedBeanAttributes<?>> bdaBeanAttributes = new IdentityHashMap<>(annotatedTypes.size());
             Iterator<AnnotatedType<?>> iterator = annotatedTypes.iterator();
+            Iterator<BeanAttributesCandidate> candidateIterator = candidatesPerBda.get(bdaInfo).iterator();
             while (iterator.hasNext())
             {
                 AnnotatedType<?> at = iterator.next();
-                Class beanClass = at.getJavaClass();
-                boolean isEjb = discoverEjb && EJBWebBeansConfigurator.isSessionBean(beanClass, webBeansContext);
+                BeanAttributesCandidate candidate = candidateIterator.next();
+                boolean isEjb = candidate.isEjb;
                 try
                 {
-                    if (isEjb || (ClassUtil.isConcrete(beanClass) || WebBeansUtil.isDecorator(at)) && isValidManagedBean(at))
+                    BeanAttributesImpl beanAttributes = candidate.getBeanAttributes();
+                    if (candidate.bean)
                     {
-                        BeanAttributesImpl beanAttributes = BeanAttributesBuilder.forContext(webBeansContext).newBeanAttibutes(at, onlyScopedBeans && !isEjb).build();
                         if (beanAttributes != null &&
                                 (!beanAttributes.isAlternative() || isEnabledAlternative(at, beanAttributes.getStereotypes())))
                         {
@@ -481,7 +583,7 @@ public class BeansDeployer
                 }
                 catch (NoClassDefFoundError ncdfe)
                 {
-                    logger.info("Skipping deployment of Class " + beanClass + "due to a NoClassDefFoundError: " + ncdfe.getMessage());
+                    logger.info("Skipping deployment of Class " + at.getJavaClass() + "due to a NoClassDefFoundError: " + ncdfe.getMessage());
                 }
             }
 
@@ -872,7 +974,7 @@ public class BeansDeployer
         webBeansContext.getWebBeansUtil().inspectDeploymentErrorStack(
                 "There are errors that are added by AfterDeploymentValidation event observers. Look at logs for further details");
 
-        packageVetoCache.clear(); // no more needed, free the memory
+        packageVetoes.clear(); // no more needed, free the memory
         event.setStarted();
     }
 
@@ -1279,7 +1381,17 @@ public class BeansDeployer
 
         if (scanner instanceof BdaScannerService)
         {
+            bootProfiler.begin("loadBeanClasses");
             Map<BeanArchiveInformation, Set<Class<?>>> beanClassesPerBda = ((BdaScannerService) scanner).getBeanClassesPerBda();
+            if (bootProfiler.isEnabled())
+            {
+                for (Set<Class<?>> beanClasses : beanClassesPerBda.values())
+                {
+                    bootProfiler.count("beanClasses", beanClasses.size());
+                }
+            }
+
+            bootProfiler.begin("processAnnotatedTypes");
 
             for (Map.Entry<BeanArchiveInformation, Set<Class<?>>> bdaEntry : beanClassesPerBda.entrySet())
             {
@@ -1294,6 +1406,7 @@ public class BeansDeployer
         else
         {
             // this path is only for backward compat to older ScannerService implementations
+            bootProfiler.begin("processAnnotatedTypes");
 
             Set<Class<?>> classIndex = scanner.getBeanClasses();
             List<AnnotatedType<?>> annotatedTypes = annotatedTypesFromBdaClassPath(classIndex, foundClasses);
@@ -1317,17 +1430,33 @@ public class BeansDeployer
         {
             AnnotatedElementFactory annotatedElementFactory = webBeansContext.getAnnotatedElementFactory();
 
+            List<ScannedClass> scannedClasses = new ArrayList<>(classIndex.size());
             for (Class<?> implClass : classIndex)
             {
-                if (foundClasses.contains(implClass))
+                if (!foundClasses.add(implClass))
                 {
                     // skip this class
                     continue;
                 }
 
-                foundClasses.add(implClass);
+                scannedClasses.add(new ScannedClass(implClass, isVetoed(implClass)));
+            }
+
+            // the reflection heavy part doesn't depend on any other class, so we do it upfront on multiple threads
+            ParallelUtil.map(webBeansContext.getOpenWebBeansConfiguration().getBootParallelism(), scannedClasses, scannedClass ->
+            {
+                if (!scannedClass.vetoed)
+                {
+                    scannedClass.prepare(annotatedElementFactory);
+                }
+                return scannedClass;
+            });
 
-                if (isVetoed(implClass))
+            // ProcessAnnotatedType gets fired in the original order
+            for (ScannedClass scannedClass : scannedClasses)
+            {
+                Class<?> implClass = scannedClass.implClass;
+                if (scannedClass.vetoed)
                 {
                     if (isEEComponent(implClass))
                     {
@@ -1344,23 +1473,13 @@ public class BeansDeployer
 
                 try
                 {
-                    //Define annotation type
-                    AnnotatedType<?> annotatedType = annotatedElementFactory.getAnnotatedType(implClass);
-                    if (annotatedType == null) // mean no annotation created it (normal case)
-                    {
-                        annotatedType = annotatedElementFactory.newAnnotatedType(implClass);
-                    }
-
+                    AnnotatedType<?> annotatedType = scannedClass.getAnnotatedType();
                     if (annotatedType == null)
                     {
                         logger.info("Could not create AnnotatedType for class " + implClass);
                         continue;
                     }
 
-                    // trigger a NoClassDefFoundError here, otherwise it would be thrown in observer methods
-                    annotatedType.getJavaClass().getDeclaredMethods();
-                    annotatedType.getJavaClass().getDeclaredFields();
-
                     // Fires ProcessAnnotatedType
                     if (!annotatedType.getJavaClass().isAnnotation())
                     {
@@ -1406,56 +1525,7 @@ public class BeansDeployer
         }
 
         Package pckge = implClass.getPackage();
-        if (pckge == null)
-        {
-            return false;
-        }
-        do
-        {
-            // yes we cache result with potentially different classloader but this is not portable by spec
-            String name = pckge.getName();
-            {
-                Boolean result = packageVetoCache.get(name);
-                if (result != null && result)
-                {
-                    return result;
-                }
-            }
-            if (pckge.getAnnotation(Vetoed.class) != null)
-            {
-                packageVetoCache.put(pckge.getName(), true);
-                return true;
-            }
-            else
-            {
-                packageVetoCache.put(pckge.getName(), false);
-            }
-
-            int idx = name.lastIndexOf('.');
-            if (idx > 0)
-            {
-                String previousPackage = name.substring(0, idx);
-                Boolean result = packageVetoCache.get(previousPackage);
-                if (result != null && result)
-                {
-                    return result;
-                }
-                try // this is related to classloader and not to Package actually :( so we need reflection
-                {
-                    pckge = Package.class.cast(GET_PACKAGE.invoke(classLoader, previousPackage));
-                }
-                catch (Exception e)
-                {
-                    throw new IllegalStateException(e);
-                }
-            }
-            else
-            {
-                pckge = null;
-            }
-        } while (pckge != null);
-
-        return false;
+        return pckge != null && packageVetoes.isVetoed(pckge.getName(), classLoader);
     }
 
     /**
@@ -2087,6 +2157,157 @@ public class BeansDeployer
         webBeansContext.getWebBeansUtil().setInjectionTargetBeanEnableFlag(bean);
     }
 
+    /**
+     * A class found by the scanner together with its AnnotatedType which got prepared upfront.
+     */
+    private static final class ScannedClass
+    {
+        private final Class<?> implClass;
+        private final boolean vetoed;
+        private AnnotatedType<?> annotatedType;
+        private Error error;
+        private RuntimeException failure;
+
+        private ScannedClass(Class<?> implClass, boolean vetoed)
+        {
+            this.implClass = implClass;
+            this.vetoed = vetoed;
+        }
+
+        /**
+         * Create the AnnotatedType and resolve all its members.
+         * May get invoked on any thread, so it must not fire events or touch unsynchronized state.
+         * Failures get kept and rethrown when the class gets processed in the original order.
+         */
+        private void prepare(AnnotatedElementFactory annotatedElementFactory)
+        {
+            try
+            {
+                //Define annotation type
+                AnnotatedType<?> type = annotatedElementFactory.getAnnotatedType(implClass);
+                if (type == null) // mean no annotation created it (normal case)
+                {
+                    type = annotatedElementFactory.newAnnotatedType(implClass);
+                }
+
+                if (type != null)
+                {
+                    // trigger a NoClassDefFoundError here, otherwise it would be thrown in observer methods
+                    type.getJavaClass().getDeclaredMethods();
+                    type.getJavaClass().getDeclaredFields();
+
+                    try
+                    {
+                        type.getConstructors();
+                        type.getFields();
+                        type.getMethods();
+                    }
+                    catch (RuntimeException | LinkageError e)
+                    {
+                        // will be resolved lazily again and reported when the type really gets used
+                    }
+                }
+                annotatedType = type;
+            }
+            catch (Error e)
+            {
+                error = e;
+            }
+            catch (RuntimeException e)
+            {
+                failure = e;
+            }
+        }
+
+        private AnnotatedType<?> getAnnotatedType()
+        {
+            if (error != null)
+            {
+                throw error;
+            }
+            if (failure != null)
+            {
+                throw failure;
+            }
+            return annotatedType;
+        }
+    }
+
+    private static final class BeanAttributesCandidate
+    {
+        private final AnnotatedType<?> annotatedType;
+        private boolean isEjb;
+        private boolean onlyScopedBeans;
+        private boolean bean;
+        private BeanAttributesImpl<?> beanAttributes;
+        private NoClassDefFoundError linkageError;
+        private RuntimeException failure;
+
+        private BeanAttributesCandidate(AnnotatedType<?> annotatedType)
+        {
+            this.annotatedType = annotatedType;
+        }
+
+        /**
+         * Check whether the type is a session or managed bean.
+         * Must only get invoked on the deploying thread as it asks all plugins.
+         * Failures get kept and rethrown when the candidate gets processed in the original order.
+         */
+        private void checkManagedBean(BeansDeployer deployer, boolean onlyScopedBeansInArchive)
+        {
+            try
+            {
+                Class<?> beanClass = annotatedType.getJavaClass();
+                isEjb = deployer.discoverEjb && EJBWebBeansConfigurator.isSessionBean(beanClass, deployer.webBeansContext);
+                onlyScopedBeans = onlyScopedBeansInArchive && !isEjb;
+                bean = isEjb ||
+                        (ClassUtil.isConcrete(beanClass) || WebBeansUtil.isDecorator(annotatedType)) && deployer.isValidManagedBean(annotatedType);
+            }
+            catch (NoClassDefFoundError ncdfe)
+            {
+                linkageError = ncdfe;
+            }
+            catch (RuntimeException e)
+            {
+                failure = e;
+            }
+        }
+
+        /**
+         * Build the BeanAttributes of a type which passed {@link #checkManagedBean(BeansDeployer, boolean)}.
+         * May get invoked on any thread, so it must not fire events or ask plugins.
+         */
+        private void prepare(BeansDeployer deployer)
+        {
+            try
+            {
+                beanAttributes = BeanAttributesBuilder.forContext(deployer.webBeansContext)
+                        .newBeanAttibutes(annotatedType, onlyScopedBeans).build();
+            }
+            catch (NoClassDefFoundError ncdfe)
+            {
+                linkageError = ncdfe;
+            }
+            catch (RuntimeException e)
+            {
+                failure = e;
+            }
+        }
+
+        private BeanAttributesImpl<?> getBeanAttributes()
+        {
+            if (linkageError != null)
+            {
+                throw linkageError;
+            }
+            if (failure != null)
+            {
+                throw failure;
+            }
+            return beanAttributes;
+        }
+    }
+
     public static class ExtendedBeanAttributes<T>
     {
         private final BeanAttributes<T> beanAttributes;
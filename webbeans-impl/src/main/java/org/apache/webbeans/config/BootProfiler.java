@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects timings and counters of the single boot phases
+ * and of the extension observer methods invoked during boot.
+ *
+ * <p>The result gets rendered as a single line JSON document, so it can
+ * easily be picked up by log processing tools.
+ * If profiling is disabled all methods are no-ops.
+ * This class is not thread safe, it must only be used by the deploying thread.</p>
+ *
+ * @see OpenWebBeansConfiguration#BOOT_PROFILING
+ */
+public final class BootProfiler
+{
+    private final boolean enabled;
+
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    /**
+     * key: extension class name and observed event type
+     */
+    private final Map<String, ObserverTiming> observerTimings = new LinkedHashMap<>();
+
+    private Phase currentPhase;
+
+    public BootProfiler(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Ends the running phase and starts a new one.
+     */
+    public void begin(String phaseName)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        long now = System.nanoTime();
+        endCurrentPhase(now);
+        currentPhase = new Phase(phaseName, now);
+        phases.add(currentPhase);
+    }
+
+    /**
+     * Ends the running phase.
+     */
+    public void end()
+    {
+        if (enabled)
+        {
+            endCurrentPhase(System.nanoTime());
+        }
+    }
+
+    public void count(String counter, long value)
+    {
+        if (enabled)
+        {
+            counters.merge(counter, value, Long::sum);
+        }
+    }
+
+    /**
+     * Record a single invocation of an extension observer method.
+     */
+    public void observer(Class<?> extensionClass, String observedType, long nanos)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        String key = extensionClass.getName() + '#' + observedType;
+        ObserverTiming timing = observerTimings.get(key);
+        if (timing == null)
+        {
+            timing = new ObserverTiming(extensionClass.getName(), observedType);
+            observerTimings.put(key, timing);
+        }
+        timing.invocations++;
+        timing.nanos += nanos;
+    }
+
+    /**
+     * @return the collected data, the running phase is taken into account up to now
+     */
+    public String toJson()
+    {
+        long now = System.nanoTime();
+        StringBuilder json = new StringBuilder(512);
+
+        long total = 0;
+        json.append("{\"phases\":[");
+        for (int i = 0; i < phases.size(); i++)
+        {
+            Phase phase = phases.get(i);
+            long duration = (phase.end > 0 ? phase.end : now) - phase.start;
+            total += duration;
+            if (i > 0)
+            {
+                json.append(',');
+            }
+            json.append("{\"name\":");
+            appendString(json, phase.name);
+            json.append(",\"ms\":").append(TimeUnit.NANOSECONDS.toMillis(duration)).append('}');
+        }
+        json.append("],\"totalMs\":").append(TimeUnit.NANOSECONDS.toMillis(total));
+
+        json.append(",\"counters\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> counter : counters.entrySet())
+        {
+            if (!first)
+            {
+                json.append(',');
+            }
+            first = false;
+            appendString(json, counter.getKey());
+            json.append(':').append(counter.getValue());
+        }
+
+        json.append("},\"observers\":[");
+        List<ObserverTiming> timings = new ArrayList<>(observerTimings.values());
+        timings.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+        for (int i = 0; i < timings.size(); i++)
+        {
+            ObserverTiming timing = timings.get(i);
+            if (i > 0)
+            {
+                json.append(',');
+            }
+            json.append("{\"extension\":");
+            appendString(json, timing.extension);
+            json.append(",\"event\":");
+            appendString(json, timing.observedType);
+            json.append(",\"invocations\":").append(timing.invocations);
+            json.append(",\"ms\":").append(TimeUnit.NANOSECONDS.toMillis(timing.nanos)).append('}');
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    private void endCurrentPhase(long now)
+    {
+        if (currentPhase != null)
+        {
+            currentPhase.end = now;
+            currentPhase = null;
+        }
+    }
+
+    static void appendString(StringBuilder json, String value)
+    {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+            {
+                json.append('\\').append(c);
+            }
+            else if (c < 0x20)
+            {
+                json.append(String.format("\\u%04x", (int) c));
+            }
+            else
+            {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static final class Phase
+    {
+        private final String name;
+        private final long start;
+        private long end;
+
+        private Phase(String name, long start)
+        {
+            this.name = name;
+            this.start = start;
+        }
+    }
+
+    private static final class ObserverTiming
+    {
+        private final String extension;
+        private final String observedType;
+        private int invocations;
+        private long nanos;
+
+        private ObserverTiming(String extension, String observedType)
+        {
+            this.extension = extension;
+            this.observedType = observedType;
+        }
+    }
+}
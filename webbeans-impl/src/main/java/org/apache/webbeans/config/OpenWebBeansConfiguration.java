@@ -18,6 +18,7 @@
  */
 package org.apache.webbeans.config;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -154,7 +155,11 @@ public class OpenWebBeansConfiguration
      **/
     public static final String USE_BDA_BEANSXML_SCANNER = "org.apache.webbeans.useBDABeansXMLScanner";
 
-    /** A list of known JARs/paths which should not be scanned for beans */
+    /**
+     * A list of known JARs/paths which should not be scanned for beans.
+     * Entries containing a '*' or '?' wildcard get matched against the name of the jar, e.g. {@code hibernate-*.jar}.
+     * All others exclude every classpath entry which contains them.
+     */
     public static final String SCAN_EXCLUSION_PATHS = "org.apache.webbeans.scanExclusionPaths";
 
     /**
@@ -166,6 +171,68 @@ public class OpenWebBeansConfiguration
      */
     public static final String SCAN_ONLY_BEANS_XML_JARS = "org.apache.webbeans.scanBeansXmlOnly";
 
+    /**
+     * Flag which indicates whether a build time index (META-INF/openwebbeans/index.bin)
+     * of a bean archive shall get used instead of scanning the bytecode of all its classes.
+     * The index of a classes directory gets ignored if any class in it is newer than the index.
+     * Defaults to {@code true}.
+     */
+    public static final String USE_BEAN_ARCHIVE_INDEX = "org.apache.webbeans.scanner.useIndex";
+
+    /**
+     * The maximum number of threads used for independent work during boot, e.g. scanning the bean archives,
+     * loading the bean classes and building their AnnotatedTypes and BeanAttributes.
+     * Defaults to {@code 1} which does all the work on the deploying thread.
+     *
+     * <p>This is opt-in: the worker threads only inherit the ThreadContextClassLoader of the deploying thread.
+     * Integrations which keep the WebBeansContext per thread (e.g. via a thread bound singleton service)
+     * must not enable it.</p>
+     */
+    public static final String BOOT_PARALLELISM = "org.apache.webbeans.boot.parallelism";
+
+    /**
+     * Flag which indicates whether scanned classes which cannot become a bean
+     * (vetoed, abstract, non static inner classes, no suitable constructor)
+     * shall get sorted out based on their bytecode without loading them.
+     * Such classes will not trigger a ProcessAnnotatedType event.
+     * Defaults to {@code false}.
+     */
+    public static final String SKIP_NON_BEAN_CLASSES = "org.apache.webbeans.scanner.skipNonBeanClasses";
+
+    /**
+     * A file in which the scanning result gets stored after a successful boot.
+     * If the scanned classpath entries, the scanner settings, the OWB version
+     * and the registered Extensions did not change, the next boot
+     * picks up the bean classes from this file instead of scanning all archives again.
+     * The annotation finder of the scanner then only gets built if somebody asks for it.
+     * Not set by default, which disables the snapshot.
+     */
+    public static final String SCAN_SNAPSHOT_FILE = "org.apache.webbeans.scanner.snapshotFile";
+
+    /**
+     * Flag which indicates whether the duration of the single boot phases and extension observers
+     * shall get measured and logged as a JSON document once the container got started.
+     * Defaults to {@code false}.
+     */
+    public static final String BOOT_PROFILING = "org.apache.webbeans.boot.profile";
+
+    /**
+     * Flag which indicates whether metadata which is only needed during the deployment
+     * shall get dropped or compacted once the container got started.
+     * This frees the scan results and bean archive information and shrinks the annotation
+     * sets of the AnnotatedTypes of all beans, which then must not get modified anymore.
+     * Defaults to {@code false}.
+     */
+    public static final String COMPACT_AFTER_BOOT = "org.apache.webbeans.boot.compact";
+
+    /**
+     * Flag which indicates whether an estimate of the heap retained by each container
+     * subsystem shall get logged as a JSON document once the container got started.
+     * Walking the object graph takes some time, so this should only be used for diagnostics.
+     * Defaults to {@code false}.
+     */
+    public static final String RETAINED_HEAP_REPORT = "org.apache.webbeans.boot.retainedHeapReport";
+
     /**
      * a comma-separated list of fully qualified class names that should be ignored
      * when determining if a decorator matches its delegate.  These are typically added by
@@ -194,6 +261,31 @@ public class OpenWebBeansConfiguration
      */
     public static final String EAGER_SESSION_INITIALISATION = "org.apache.webbeans.web.eagerSessionInitialisation";
 
+    /**
+     * By default the SessionContext gets set as HttpSession attribute again on every request
+     * to trigger the delta-replication of the servlet container.
+     * If set to &quot;true&quot; this only happens if a &#064;SessionScoped instance got created or destroyed
+     * during the request or the SessionContext got explicitly marked as dirty via
+     * {@link org.apache.webbeans.context.SessionContext#markDirty()}.
+     * Only use this if modified session scoped beans mark the context dirty, otherwise their changes don't get replicated.
+     */
+    public static final String SESSION_REPLICATE_DIRTY_ONLY = "org.apache.webbeans.web.session.replicateDirtyOnly";
+
+    /**
+     * Comma separated list of request paths (without the context path) for which the
+     * WebBeansConfigurationListener doesn't activate the request context.
+     * Supported are exact paths like &quot;/health&quot;, path prefixes like &quot;/static/*&quot; or &quot;/static/**&quot;
+     * and extensions like &quot;*.css&quot;.
+     * If such a request uses a &#064;RequestScoped bean nevertheless the context gets lazily started.
+     */
+    public static final String REQUEST_CONTEXT_EXCLUDED_PATHS = "org.apache.webbeans.web.requestContext.excludedPaths";
+
+    /**
+     * Comma separated list of request paths which always get a request context,
+     * even if they also match {@link #REQUEST_CONTEXT_EXCLUDED_PATHS}. Same syntax.
+     */
+    public static final String REQUEST_CONTEXT_INCLUDED_PATHS = "org.apache.webbeans.web.requestContext.includedPaths";
+
     /**
      * The Java Version to use for the generated proxy classes.
      * If "auto" then we will pick the version of the current JVM.
@@ -421,6 +513,78 @@ public class OpenWebBeansConfiguration
         return "true".equalsIgnoreCase(value);
     }
 
+    /**
+     * @see #USE_BEAN_ARCHIVE_INDEX
+     */
+    public boolean useBeanArchiveIndex()
+    {
+        String value = getProperty(USE_BEAN_ARCHIVE_INDEX);
+        return !"false".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @see #BOOT_PARALLELISM
+     */
+    public int getBootParallelism()
+    {
+        String value = getProperty(BOOT_PARALLELISM);
+        if (value == null || value.trim().isEmpty())
+        {
+            return 1;
+        }
+        return Math.max(1, Integer.parseInt(value.trim()));
+    }
+
+    /**
+     * @see #SKIP_NON_BEAN_CLASSES
+     */
+    public boolean skipNonBeanClasses()
+    {
+        String value = getProperty(SKIP_NON_BEAN_CLASSES);
+        return "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @see #BOOT_PROFILING
+     */
+    public boolean isBootProfilingEnabled()
+    {
+        String value = getProperty(BOOT_PROFILING);
+        return "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @see #COMPACT_AFTER_BOOT
+     */
+    public boolean isCompactAfterBoot()
+    {
+        String value = getProperty(COMPACT_AFTER_BOOT);
+        return "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @see #RETAINED_HEAP_REPORT
+     */
+    public boolean isRetainedHeapReportEnabled()
+    {
+        String value = getProperty(RETAINED_HEAP_REPORT);
+        return "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @return the scan snapshot file or {@code null} if no snapshot shall get used
+     * @see #SCAN_SNAPSHOT_FILE
+     */
+    public File getScanSnapshotFile()
+    {
+        String value = getProperty(SCAN_SNAPSHOT_FILE);
+        if (value == null || value.trim().isEmpty())
+        {
+            return null;
+        }
+        return new File(value.trim());
+    }
+
     /**
      * Flag which indicates that programmatic invocations to vaious BeanManager methods
      * should get strictly validated.
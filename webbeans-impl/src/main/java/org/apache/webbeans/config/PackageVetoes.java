@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import javax.enterprise.inject.Vetoed;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides whether a package is vetoed, i.e. it or one of its parent packages is annotated with &#064;Vetoed.
+ * The outcome gets cached for every package on the way, so each package gets inspected only once
+ * and every further class only costs a single lookup.
+ *
+ * <p>This class is not thread safe.</p>
+ */
+class PackageVetoes
+{
+    private static final Method GET_PACKAGE;
+    static
+    {
+        Method getPackage;
+        try
+        {
+            getPackage = ClassLoader.class.getDeclaredMethod("getDefinedPackage", String.class);
+            getPackage.setAccessible(true);
+        }
+        catch (NoSuchMethodException e)
+        {
+            try
+            {
+                getPackage = ClassLoader.class.getDeclaredMethod("getPackage", String.class);
+                getPackage.setAccessible(true);
+            }
+            catch (NoSuchMethodException ex)
+            {
+                throw new IllegalStateException(ex);
+            }
+        }
+        GET_PACKAGE = getPackage;
+    }
+
+    // yes we cache result with potentially different classloader but this is not portable by spec
+    private final Map<String, Boolean> vetoes = new HashMap<>();
+
+    boolean isVetoed(String packageName, ClassLoader classLoader)
+    {
+        Boolean vetoed = vetoes.get(packageName);
+        if (vetoed == null)
+        {
+            int idx = packageName.lastIndexOf('.');
+            vetoed = readVeto(packageName, classLoader)
+                || idx > 0 && isVetoed(packageName.substring(0, idx), classLoader);
+            vetoes.put(packageName, vetoed);
+        }
+        return vetoed;
+    }
+
+    /**
+     * @return whether the given package itself is annotated with &#064;Vetoed
+     */
+    boolean readVeto(String packageName, ClassLoader classLoader)
+    {
+        Package pckge;
+        try // this is related to classloader and not to Package actually :( so we need reflection
+        {
+            pckge = Package.class.cast(GET_PACKAGE.invoke(classLoader, packageName));
+        }
+        catch (Exception e)
+        {
+            throw new IllegalStateException(e);
+        }
+        if (pckge != null)
+        {
+            return pckge.getAnnotation(Vetoed.class) != null;
+        }
+
+        // no class of this package got loaded yet, so only a package-info can tell us for sure
+        if (classLoader.getResource(packageName.replace('.', '/') + "/package-info.class") == null)
+        {
+            return false;
+        }
+        try
+        {
+            return Class.forName(packageName + ".package-info", false, classLoader).getAnnotation(Vetoed.class) != null;
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return false;
+        }
+    }
+
+    void clear()
+    {
+        vetoes.clear();
+    }
+}
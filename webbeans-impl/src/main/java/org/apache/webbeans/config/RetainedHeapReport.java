@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.webbeans.spi.SecurityService;
+import org.apache.webbeans.util.CollectionUtil;
+
+/**
+ * Estimates the heap retained by the single container subsystems of a {@link WebBeansContext}.
+ *
+ * <p>The object graph of each subsystem gets walked via reflection. Objects reachable from
+ * more than one subsystem get accounted to the first one which reaches them, the subsystem
+ * roots themselves, classes, ClassLoaders, threads and reference referents are never followed.
+ * Contextual instances and objects whose classes are neither part of OpenWebBeans nor of the JDK,
+ * e.g. application beans, proxies or server objects, only count with their shallow size and
+ * their fields don't get walked.
+ * Sizes are computed for a 64 bit JVM with compressed oops. If the fields of a JDK collection
+ * can't be read, its elements get walked via the Collection API and the internal structure
+ * gets approximated. The result is an estimate for diagnostics, not an exact number.</p>
+ *
+ * @see OpenWebBeansConfiguration#RETAINED_HEAP_REPORT
+ */
+public final class RetainedHeapReport
+{
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+
+    /**
+     * estimated size of a single entry of a hash based collection incl. its bucket
+     */
+    private static final int HASH_ENTRY = 36;
+
+    /**
+     * fields of the context implementations which hold contextual instances
+     */
+    private static final Set<String> CONTEXTUAL_INSTANCE_FIELDS = CollectionUtil.unmodifiableSet(
+        "org.apache.webbeans.context.creational.BeanInstanceBag.beanInstance",
+        "org.apache.webbeans.context.creational.CreationalContextImpl.delegate",
+        "org.apache.webbeans.context.creational.CreationalContextImpl$DependentKey.instance",
+        "org.apache.webbeans.context.creational.DependentCreationalContext.instance",
+        "org.apache.webbeans.context.ContextualInstanceSlots$PublishedInstance.instance");
+
+    private final SecurityService securityService;
+    private final Map<Class<?>, ClassLayout> layouts = new HashMap<>();
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Object> contextualInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private RetainedHeapReport(SecurityService securityService)
+    {
+        this.securityService = securityService;
+    }
+
+    /**
+     * @return the estimated retained bytes per subsystem in the order they got measured
+     */
+    public static Map<String, Long> measure(WebBeansContext webBeansContext)
+    {
+        Map<String, Object> subsystems = new LinkedHashMap<>();
+        subsystems.put("beanManager", webBeansContext.getBeanManagerImpl());
+        subsystems.put("injectionResolver", webBeansContext.getBeanManagerImpl().getInjectionResolver());
+        subsystems.put("notificationManager", webBeansContext.getNotificationManager());
+        subsystems.put("interceptorsManager", webBeansContext.getInterceptorsManager());
+        subsystems.put("decoratorsManager", webBeansContext.getDecoratorsManager());
+        subsystems.put("alternativesManager", webBeansContext.getAlternativesManager());
+        subsystems.put("interceptorResolutionService", webBeansContext.getInterceptorResolutionService());
+        subsystems.put("stereoTypeManager", webBeansContext.getStereoTypeManager());
+        subsystems.put("annotationManager", webBeansContext.getAnnotationManager());
+        subsystems.put("annotatedElementFactory", webBeansContext.getAnnotatedElementFactory());
+        subsystems.put("interceptorDecoratorProxyFactory", webBeansContext.getInterceptorDecoratorProxyFactory());
+        subsystems.put("normalScopeProxyFactory", webBeansContext.getNormalScopeProxyFactory());
+        subsystems.put("subclassProxyFactory", webBeansContext.getSubclassProxyFactory());
+        subsystems.put("serializableBeanVault", webBeansContext.getSerializableBeanVault());
+        subsystems.put("scannerService", webBeansContext.getScannerService());
+        subsystems.put("beanArchiveService", webBeansContext.getBeanArchiveService());
+        subsystems.put("contextsService", webBeansContext.getContextsService());
+
+        RetainedHeapReport report = new RetainedHeapReport(webBeansContext.getSecurityService());
+        report.visited.add(webBeansContext);
+        report.visited.addAll(subsystems.values());
+
+        Map<String, Long> retainedBytes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> subsystem : subsystems.entrySet())
+        {
+            retainedBytes.put(subsystem.getKey(), report.walk(subsystem.getValue()));
+        }
+        return retainedBytes;
+    }
+
+    /**
+     * @return the retained bytes as single line JSON document, e.g. {"beanManager":1234,...,"total":5678}
+     */
+    public static String toJson(Map<String, Long> retainedBytes)
+    {
+        StringBuilder json = new StringBuilder(512).append('{');
+        long total = 0;
+        for (Map.Entry<String, Long> entry : retainedBytes.entrySet())
+        {
+            BootProfiler.appendString(json, entry.getKey());
+            json.append(':').append(entry.getValue()).append(',');
+            total += entry.getValue();
+        }
+        return json.append("\"total\":").append(total).append('}').toString();
+    }
+
+    private long walk(Object root)
+    {
+        if (root == null)
+        {
+            return 0;
+        }
+
+        long bytes = 0;
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty())
+        {
+            Object current = stack.pop();
+            Class<?> type = current.getClass();
+            if (type.isArray())
+            {
+                bytes += walkArray(current, stack);
+                continue;
+            }
+
+            ClassLayout layout = getLayout(type);
+            bytes += layout.shallowSize;
+            if (contextualInstances.contains(current) || !isContainerType(type))
+            {
+                // leaf, the state of beans and foreign objects isn't retained by the container
+                continue;
+            }
+            if (layout.referenceFields != null)
+            {
+                for (Field field : layout.referenceFields)
+                {
+                    try
+                    {
+                        follow(field.get(current), stack);
+                    }
+                    catch (IllegalAccessException e)
+                    {
+                        // not accessible, skip this reference
+                    }
+                }
+                for (Field field : layout.contextualInstanceFields)
+                {
+                    try
+                    {
+                        Object instance = field.get(current);
+                        if (follow(instance, stack))
+                        {
+                            contextualInstances.add(instance);
+                        }
+                    }
+                    catch (IllegalAccessException e)
+                    {
+                        // not accessible, skip this reference
+                    }
+                }
+            }
+            else if (current instanceof String)
+            {
+                // the value array, assuming mostly latin1 Strings
+                bytes += align(ARRAY_HEADER + ((String) current).length());
+            }
+            else if (current instanceof Map)
+            {
+                bytes += walkElements(((Map<?, ?>) current).keySet(), stack) + walkElements(((Map<?, ?>) current).values(), stack);
+            }
+            else if (current instanceof Collection)
+            {
+                bytes += walkElements((Collection<?>) current, stack);
+            }
+        }
+        return bytes;
+    }
+
+    private long walkArray(Object array, Deque<Object> stack)
+    {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive())
+        {
+            return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            follow(Array.get(array, i), stack);
+        }
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    /**
+     * Fallback for collections whose internal fields can't be read.
+     */
+    private long walkElements(Collection<?> elements, Deque<Object> stack)
+    {
+        try
+        {
+            List<Object> snapshot = new ArrayList<>(elements);
+            for (Object element : snapshot)
+            {
+                follow(element, stack);
+            }
+            return (long) snapshot.size() * HASH_ENTRY;
+        }
+        catch (RuntimeException e)
+        {
+            // e.g. a ConcurrentModificationException, just skip the elements
+            return 0;
+        }
+    }
+
+    /**
+     * @return {@code true} if the value got pushed for the first time
+     */
+    private boolean follow(Object value, Deque<Object> stack)
+    {
+        if (value == null || value instanceof Class || value instanceof ClassLoader || value instanceof Thread)
+        {
+            return false;
+        }
+        if (visited.add(value))
+        {
+            stack.push(value);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isContainerType(Class<?> type)
+    {
+        String name = type.getName();
+        return name.startsWith("org.apache.webbeans.") || name.startsWith("java.");
+    }
+
+    private ClassLayout getLayout(Class<?> type)
+    {
+        ClassLayout layout = layouts.get(type);
+        if (layout == null)
+        {
+            layout = createLayout(type);
+            layouts.put(type, layout);
+        }
+        return layout;
+    }
+
+    private ClassLayout createLayout(Class<?> type)
+    {
+        long size = OBJECT_HEADER;
+        List<Field> referenceFields = new ArrayList<>();
+        List<Field> contextualInstanceFields = new ArrayList<>();
+        boolean accessible = true;
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+        {
+            for (Field field : securityService.doPrivilegedGetDeclaredFields(current))
+            {
+                if (Modifier.isStatic(field.getModifiers()))
+                {
+                    continue;
+                }
+                if (field.getType().isPrimitive())
+                {
+                    size += primitiveSize(field.getType());
+                    continue;
+                }
+
+                size += REFERENCE;
+                if (Reference.class.isAssignableFrom(current) && "referent".equals(field.getName()))
+                {
+                    continue;
+                }
+                if (accessible && makeAccessible(field))
+                {
+                    if (CONTEXTUAL_INSTANCE_FIELDS.contains(current.getName() + '.' + field.getName()))
+                    {
+                        contextualInstanceFields.add(field);
+                    }
+                    else
+                    {
+                        referenceFields.add(field);
+                    }
+                }
+                else
+                {
+                    accessible = false;
+                }
+            }
+        }
+        if (!accessible)
+        {
+            return new ClassLayout(align(size), null, null);
+        }
+        return new ClassLayout(align(size),
+            referenceFields.toArray(new Field[referenceFields.size()]),
+            contextualInstanceFields.toArray(new Field[contextualInstanceFields.size()]));
+    }
+
+    private boolean makeAccessible(AccessibleObject field)
+    {
+        try
+        {
+            securityService.doPrivilegedSetAccessible(field, true);
+            return true;
+        }
+        catch (RuntimeException e)
+        {
+            // e.g. fields of JDK classes on Java 9+ without --add-opens
+            return false;
+        }
+    }
+
+    private static int primitiveSize(Class<?> type)
+    {
+        if (type == long.class || type == double.class)
+        {
+            return 8;
+        }
+        if (type == int.class || type == float.class)
+        {
+            return 4;
+        }
+        if (type == short.class || type == char.class)
+        {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size)
+    {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static final class ClassLayout
+    {
+        private final long shallowSize;
+
+        /**
+         * {@code null} if the fields can't get read
+         */
+        private final Field[] referenceFields;
+
+        /**
+         * fields holding contextual instances, only measured shallow
+         */
+        private final Field[] contextualInstanceFields;
+
+        private ClassLayout(long shallowSize, Field[] referenceFields, Field[] contextualInstanceFields)
+        {
+            this.shallowSize = shallowSize;
+            this.referenceFields = referenceFields;
+            this.contextualInstanceFields = contextualInstanceFields;
+        }
+    }
+}
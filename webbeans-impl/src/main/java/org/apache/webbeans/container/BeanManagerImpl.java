@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -146,7 +147,10 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     private Set<Bean<?>> deploymentBeans = new HashSet<>();
 
     /**Normal scoped cache proxies*/
-    private Map<Contextual<?>, Object> cacheProxies = new ConcurrentHashMap<>();
+    private ContextualMap<Object> cacheProxies = new ContextualMap<>();
+
+    /**Source of the dense bean ordinals, see {@link OwbBean#getOrdinal()}*/
+    private final AtomicInteger beanOrdinals = new AtomicInteger();
 
     /**Injection resolver instance*/
     private InjectionResolver injectionResolver;
@@ -165,11 +169,11 @@ public class BeanManagerImpl implements BeanManager, Referenceable
      */
     private List<ExternalScope> additionalScopes = new ArrayList<>();
 
-    /** quick detection if an annotation is a scope-annotation  */
-    private Set<Class<? extends Annotation>> scopeAnnotations = new HashSet<>();
+    /** quick detection if an annotation is a scope-annotation, concurrent as AnnotatedTypes get created in parallel during boot */
+    private Set<Class<? extends Annotation>> scopeAnnotations = ConcurrentHashMap.newKeySet();
 
     /** quick detection if an annotation is NOT a scope-annotation  */
-    private Set<Class<? extends Annotation>> nonscopeAnnotations = new HashSet<>();
+    private Set<Class<? extends Annotation>> nonscopeAnnotations = ConcurrentHashMap.newKeySet();
 
 
     private ConcurrentMap<Class<?>, ConcurrentMap<String, AnnotatedType<?>>> additionalAnnotatedTypes = new ConcurrentHashMap<>();
@@ -361,6 +365,7 @@ public class BeanManagerImpl implements BeanManager, Referenceable
     {
         if(newBean instanceof AbstractOwbBean)
         {
+            assignOrdinal((AbstractOwbBean<?>) newBean);
             addPassivationInfo(newBean);
             deploymentBeans.add(newBean);
         }
@@ -375,6 +380,7 @@ public class BeanManagerImpl implements BeanManager, Referenceable
             {
                 bean = new PassivationCapableThirdpartyBeanImpl<>(webBeansContext, newBean);
             }
+            assignOrdinal(bean);
             addPassivationInfo(bean);
             deploymentBeans.add(bean);
             thirdPartyMapping.put(newBean, bean);
@@ -383,6 +389,14 @@ public class BeanManagerImpl implements BeanManager, Referenceable
         return this;
     }
 
+    private void assignOrdinal(AbstractOwbBean<?> bean)
+    {
+        if (bean.getOrdinal() < 0)
+        {
+            bean.setOrdinal(beanOrdinals.getAndIncrement());
+        }
+    }
+
 
     /**
      * Check if the bean is has a passivation id and add it to the id store.
@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.enterprise.context.spi.Contextual;
+
+import org.apache.webbeans.component.OwbBean;
+import org.apache.webbeans.component.third.ThirdpartyBeanImpl;
+
+/**
+ * A {@link ConcurrentMap} keyed by {@link Contextual}s which
+ * stores all {@link OwbBean}s with an assigned ordinal in a primitive int keyed
+ * open addressing table. Lookups for those beans neither invoke
+ * {@link Object#hashCode()} nor {@link Object#equals(Object)}.
+ *
+ * <p>All other Contextuals (e.g. 3rd party Contextual implementations)
+ * get stored in a plain {@link ConcurrentHashMap}. Ordinals are only unique per
+ * {@link BeanManagerImpl}, so a slot only matches if it holds the very same bean.
+ * A bean whose ordinal is already taken by a bean of another BeanManager
+ * gets stored in the {@link ConcurrentHashMap} as well.</p>
+ *
+ * <p>Reads are lock free, writes get serialised on the map instance.</p>
+ *
+ * @see OwbBean#getOrdinal()
+ */
+public class ContextualMap<V> extends AbstractMap<Contextual<?>, V> implements ConcurrentMap<Contextual<?>, V>
+{
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Shared table of all empty maps.
+     * Many maps (e.g. of request contexts) never get an entry, so we only allocate a table on the first store.
+     */
+    private static final AtomicReferenceArray<?> EMPTY_SLOTS = new AtomicReferenceArray<>(0);
+
+    /**
+     * slots indexed by ordinal, linear probing.
+     * A slot with a {@code null} value is a tombstone which will be reused or dropped on resize.
+     */
+    private volatile AtomicReferenceArray<Slot<V>> slots = emptySlots();
+
+    /** number of non-null slots including tombstones, guarded by this */
+    private int usedSlots;
+
+    /** number of live entries in {@link #slots} */
+    private volatile int ordinalSize;
+
+    /** lazily created storage for all Contextuals without ordinal */
+    private volatile ConcurrentMap<Contextual<?>, V> others;
+
+
+    /**
+     * @return the ordinal of the given key or {@code -1} if it doesn't have one
+     */
+    public static int ordinalOf(Object key)
+    {
+        Object bean = unwrap(key);
+        if (bean instanceof OwbBean && !(bean instanceof ThirdpartyBeanImpl))
+        {
+            // a ThirdpartyBeanImpl is equal to the Bean it wraps, so it must be looked up via equals
+            return ((OwbBean<?>) bean).getOrdinal();
+        }
+        return -1;
+    }
+
+    /**
+     * @return the bean behind a {@link SerializableBean} or the key itself
+     */
+    private static Object unwrap(Object key)
+    {
+        return key instanceof SerializableBean ? ((SerializableBean<?>) key).getBean() : key;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int ordinal = ordinalOf(key);
+        if (ordinal >= 0)
+        {
+            Slot<V> slot = find(slots, ordinal);
+            if (slot != null && slot.bean == unwrap(key))
+            {
+                return slot.value;
+            }
+        }
+
+        ConcurrentMap<Contextual<?>, V> fallback = others;
+        return fallback != null ? fallback.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(Contextual<?> key, V value)
+    {
+        return store(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(Contextual<?> key, V value)
+    {
+        return store(key, value, true);
+    }
+
+    @Override
+    public synchronized V remove(Object key)
+    {
+        int ordinal = ordinalOf(key);
+        Slot<V> slot = ordinal >= 0 ? find(slots, ordinal) : null;
+        if (slot == null || slot.bean != unwrap(key) || slot.value == null)
+        {
+            return others != null ? others.remove(key) : null;
+        }
+
+        V old = slot.value;
+        slot.value = null;
+        ordinalSize--;
+        return old;
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value)
+    {
+        V current = get(key);
+        if (current != null && current.equals(value))
+        {
+            remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized boolean replace(Contextual<?> key, V oldValue, V newValue)
+    {
+        V current = get(key);
+        if (current != null && current.equals(oldValue))
+        {
+            put(key, newValue);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized V replace(Contextual<?> key, V value)
+    {
+        return get(key) != null ? put(key, value) : null;
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        slots = emptySlots();
+        usedSlots = 0;
+        ordinalSize = 0;
+        others = null;
+    }
+
+    @Override
+    public int size()
+    {
+        ConcurrentMap<Contextual<?>, V> fallback = others;
+        return ordinalSize + (fallback != null ? fallback.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Entry<Contextual<?>, V>> entrySet()
+    {
+        return new AbstractSet<Entry<Contextual<?>, V>>()
+        {
+            @Override
+            public Iterator<Entry<Contextual<?>, V>> iterator()
+            {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return ContextualMap.this.size();
+            }
+        };
+    }
+
+    private synchronized V store(Contextual<?> key, V value, boolean onlyIfAbsent)
+    {
+        if (value == null)
+        {
+            throw new NullPointerException("value must not be null");
+        }
+
+        int ordinal = ordinalOf(key);
+        if (ordinal < 0 || !storeInSlot(key, ordinal))
+        {
+            if (others == null)
+            {
+                others = new ConcurrentHashMap<>();
+            }
+            return onlyIfAbsent ? others.putIfAbsent(key, value) : others.put(key, value);
+        }
+
+        Object bean = unwrap(key);
+        AtomicReferenceArray<Slot<V>> table = slots;
+        if (table.length() == 0)
+        {
+            table = resize(table);
+        }
+        int mask = table.length() - 1;
+        int idx = ordinal & mask;
+        Slot<V> slot;
+        while ((slot = table.get(idx)) != null)
+        {
+            if (slot.ordinal == ordinal)
+            {
+                V old = slot.value;
+                if (old == null)
+                {
+                    // reuse the tombstone
+                    table.set(idx, new Slot<>(ordinal, bean, key, value));
+                    ordinalSize++;
+                }
+                else if (!onlyIfAbsent)
+                {
+                    slot.value = value;
+                }
+                return old;
+            }
+            idx = (idx + 1) & mask;
+        }
+
+        if ((usedSlots + 1) * 2 > table.length())
+        {
+            table = resize(table);
+            mask = table.length() - 1;
+            idx = ordinal & mask;
+            while (table.get(idx) != null)
+            {
+                idx = (idx + 1) & mask;
+            }
+        }
+
+        table.set(idx, new Slot<>(ordinal, bean, key, value));
+        usedSlots++;
+        ordinalSize++;
+        return null;
+    }
+
+    /**
+     * @return {@code false} if the key must get stored in {@link #others} because its ordinal
+     *         is used by a bean of another BeanManager or because the key is already stored there
+     */
+    private boolean storeInSlot(Contextual<?> key, int ordinal)
+    {
+        Slot<V> slot = find(slots, ordinal);
+        if (slot != null && slot.value != null)
+        {
+            return slot.bean == unwrap(key);
+        }
+        return others == null || !others.containsKey(key);
+    }
+
+    /**
+     * Rehash all live slots into a new table and drop all tombstones.
+     */
+    private AtomicReferenceArray<Slot<V>> resize(AtomicReferenceArray<Slot<V>> old)
+    {
+        // keep the load factor of the new table at 0.375 at most,
+        // this map is used for every session so it must stay small
+        int capacity = INITIAL_CAPACITY;
+        while ((ordinalSize + 1) * 8 > capacity * 3)
+        {
+            capacity <<= 1;
+        }
+
+        AtomicReferenceArray<Slot<V>> table = new AtomicReferenceArray<>(capacity);
+        int mask = capacity - 1;
+        int used = 0;
+        for (int i = 0; i < old.length(); i++)
+        {
+            Slot<V> slot = old.get(i);
+            if (slot != null && slot.value != null)
+            {
+                int idx = slot.ordinal & mask;
+                while (table.get(idx) != null)
+                {
+                    idx = (idx + 1) & mask;
+                }
+                table.set(idx, slot);
+                used++;
+            }
+        }
+
+        usedSlots = used;
+        slots = table;
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> AtomicReferenceArray<Slot<V>> emptySlots()
+    {
+        return (AtomicReferenceArray<Slot<V>>) EMPTY_SLOTS;
+    }
+
+    private static <V> Slot<V> find(AtomicReferenceArray<Slot<V>> table, int ordinal)
+    {
+        if (table.length() == 0)
+        {
+            return null;
+        }
+        int mask = table.length() - 1;
+        int idx = ordinal & mask;
+        Slot<V> slot;
+        while ((slot = table.get(idx)) != null)
+        {
+            if (slot.ordinal == ordinal)
+            {
+                return slot;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return null;
+    }
+
+    private static final class Slot<V>
+    {
+        private final int ordinal;
+
+        /**
+         * the unwrapped key, a lookup only matches this very instance
+         */
+        private final Object bean;
+        private final Contextual<?> key;
+        private volatile V value;
+
+        private Slot(int ordinal, Object bean, Contextual<?> key, V value)
+        {
+            this.ordinal = ordinal;
+            this.bean = bean;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Weakly consistent iterator over the ordinal slots followed by the fallback entries.
+     */
+    private final class EntryIterator implements Iterator<Entry<Contextual<?>, V>>
+    {
+        private final AtomicReferenceArray<Slot<V>> table = slots;
+        private final Iterator<Entry<Contextual<?>, V>> othersIterator;
+        private int index;
+        private Entry<Contextual<?>, V> next;
+        private Entry<Contextual<?>, V> last;
+
+        private EntryIterator()
+        {
+            ConcurrentMap<Contextual<?>, V> fallback = others;
+            othersIterator = fallback != null ? fallback.entrySet().iterator() : null;
+            advance();
+        }
+
+        private void advance()
+        {
+            next = null;
+            while (index < table.length())
+            {
+                Slot<V> slot = table.get(index++);
+                if (slot != null)
+                {
+                    V value = slot.value;
+                    if (value != null)
+                    {
+                        next = new SimpleImmutableEntry<Contextual<?>, V>(slot.key, value);
+                        return;
+                    }
+                }
+            }
+            if (othersIterator != null && othersIterator.hasNext())
+            {
+                Map.Entry<Contextual<?>, V> entry = othersIterator.next();
+                next = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        @Override
+        public Entry<Contextual<?>, V> next()
+        {
+            if (next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (last == null)
+            {
+                throw new IllegalStateException();
+            }
+            ContextualMap.this.remove(last.getKey());
+            last = null;
+        }
+    }
+}
@@ -96,7 +96,7 @@ public class InterceptionFactoryImpl<T> implements InterceptionFactory<T> /*todo
 
         return context.getInterceptorResolutionService().createProxiedInstance(
                 originalInstance, creationalContext, creationalContext, interceptorInfo, subClass,
-                methodInterceptors, passivationId, interceptorInstances, c -> false, (a, d) -> d);
+                methodInterceptors, null, null, passivationId, interceptorInstances, c -> false, (a, d) -> d);
     }
 
     private void check()
@@ -46,6 +46,9 @@ public class SerializableBeanVault
 
     private Map<String, SerializableBean<?>> serializableBeans = new ConcurrentHashMap<>();
 
+    /** fast path for all beans with an ordinal, avoids calculating the passivation id */
+    private ContextualMap<SerializableBean<?>> serializableBeansByOrdinal = new ContextualMap<>();
+
     @SuppressWarnings("unchecked")
     public <T> Contextual<T> getSerializableBean(Contextual<T> bean)
     {
@@ -55,6 +58,16 @@ public class SerializableBeanVault
             return bean;
         }
 
+        boolean hasOrdinal = ContextualMap.ordinalOf(bean) >= 0;
+        if (hasOrdinal)
+        {
+            SerializableBean<T> sb = (SerializableBean<T>) serializableBeansByOrdinal.get(bean);
+            if (sb != null)
+            {
+                return sb;
+            }
+        }
+
         String id = WebBeansUtil.getPassivationId(bean);
         
         if(id != null) 
@@ -65,6 +78,10 @@ public class SerializableBeanVault
                 sb = new SerializableBean<>((Bean<T>) bean);
                 serializableBeans.put(id, sb);
             }
+            if (hasOrdinal)
+            {
+                serializableBeansByOrdinal.putIfAbsent(bean, sb);
+            }
 
             return sb;            
         }
@@ -62,6 +62,12 @@ public abstract class AbstractContext implements AlterableContext, Serializable
     /**Contextual Scope Type*/
     protected Class<? extends Annotation> scopeType;
 
+    /**
+     * Lock free lookup of already created instances or {@code null} if the context doesn't publish them.
+     * Must only be used for contexts which don't get activated per thread.
+     */
+    private transient ContextualInstanceSlots instanceSlots;
+
     @SuppressWarnings("unchecked")
     private <T> BeanInstanceBag<T> createContextualBag(Contextual<T> contextual, CreationalContext<T> creationalContext)
     {
@@ -95,6 +101,16 @@ public abstract class AbstractContext implements AlterableContext, Serializable
 
     }
 
+    /**
+     * Publish all created instances for a lookup without the Map and the active check.
+     * Only for contexts with long living instances.
+     */
+    protected void publishInstances()
+    {
+        instanceSlots = new ContextualInstanceSlots();
+        instanceSlots.setEnabled(active);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -102,6 +118,15 @@ public abstract class AbstractContext implements AlterableContext, Serializable
     @SuppressWarnings("unchecked")
     public <T> T get(Contextual<T> component)
     {
+        if (instanceSlots != null)
+        {
+            Object instance = instanceSlots.get(component);
+            if (instance != null)
+            {
+                return (T) instance;
+            }
+        }
+
         checkActive();
 
         BeanInstanceBag bag = componentInstanceMap.get(component);
@@ -118,8 +143,18 @@ public abstract class AbstractContext implements AlterableContext, Serializable
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext)
     {
+        if (instanceSlots != null)
+        {
+            Object instance = instanceSlots.get(contextual);
+            if (instance != null)
+            {
+                return (T) instance;
+            }
+        }
+
         checkActive();
         
         return getInstance(contextual, creationalContext);
@@ -137,6 +172,11 @@ public abstract class AbstractContext implements AlterableContext, Serializable
         BeanInstanceBag<T> bag = (BeanInstanceBag<T>)componentInstanceMap.get(contextual);
         if(bag == null)
         {
+            if (creationalContext == null)
+            {
+                // nothing to create, so don't keep an empty bag around
+                return null;
+            }
             bag = createContextualBag(contextual, creationalContext);
         }
 
@@ -144,6 +184,10 @@ public abstract class AbstractContext implements AlterableContext, Serializable
         instance = bag.getBeanInstance();
         if (instance != null)
         {
+            if (instanceSlots != null)
+            {
+                instanceSlots.publish(contextual, instance, componentInstanceMap, bag);
+            }
             return instance;
         }
 
@@ -157,6 +201,11 @@ public abstract class AbstractContext implements AlterableContext, Serializable
             else
             {                
                 instance = bag.create(contextual);    
+                if (instanceSlots != null)
+                {
+                    instanceSlots.publish(contextual, instance, componentInstanceMap, bag);
+                }
+                instancesChanged();
             }
         }
 
@@ -174,7 +223,11 @@ public abstract class AbstractContext implements AlterableContext, Serializable
      */
     public void destroyInstance(Contextual<?> contextual)
     {
-        
+        if (instanceSlots != null)
+        {
+            instanceSlots.remove(contextual);
+        }
+
         BeanInstanceBag<?> instance = componentInstanceMap.get(contextual);
         if (instance == null)
         {
@@ -205,17 +258,35 @@ public abstract class AbstractContext implements AlterableContext, Serializable
         //Destroy component
         component.destroy(instance,creationalContext);
         componentInstanceMap.remove(component);
+        if (instanceSlots != null)
+        {
+            // a lookup during the destruction, e.g. from the @PreDestroy method, might have published it again
+            instanceSlots.remove(component);
+        }
+        instancesChanged();
     }
     
+    /**
+     * Gets invoked whenever a contextual instance got created or destroyed in this context.
+     */
+    protected void instancesChanged()
+    {
+        // nothing to do by default
+    }
+
     /**
      * {@inheritDoc}
      */
     public void destroy()
     {
-        Set<Contextual<?>> keySet = new HashSet<>(componentInstanceMap.keySet());
-        for (Contextual<?> contextual: keySet)
+        // most request contexts never get a contextual instance
+        if (!componentInstanceMap.isEmpty())
         {
-            destroyInstance(contextual);
+            Set<Contextual<?>> keySet = new HashSet<>(componentInstanceMap.keySet());
+            for (Contextual<?> contextual: keySet)
+            {
+                destroyInstance(contextual);
+            }
         }
         setActive(false);
     }
@@ -239,6 +310,10 @@ public abstract class AbstractContext implements AlterableContext, Serializable
     public void setActive(boolean active)
     {
         this.active = active;
+        if (instanceSlots != null)
+        {
+            instanceSlots.setEnabled(active);
+        }
     }
 
     /**
@@ -20,12 +20,12 @@ package org.apache.webbeans.context;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.Contextual;
 
 import org.apache.webbeans.component.BuiltInOwbBean;
+import org.apache.webbeans.container.ContextualMap;
 
 /**
  * Application context implementation.
@@ -44,12 +44,13 @@ public class ApplicationContext extends AbstractContext
     public ApplicationContext()
     {
         super(ApplicationScoped.class);
+        publishInstances();
     }
 
     @Override
     public void setComponentInstanceMap()
     {
-        componentInstanceMap = new ConcurrentHashMap<>();
+        componentInstanceMap = new ContextualMap<>();
     }
 
 
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context;
+
+import java.util.concurrent.Executor;
+
+import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.spi.ContextsService;
+
+/**
+ * An {@link Executor} which runs the tasks with the thread bound contexts
+ * (request, session, conversation) of the thread which submitted the task.
+ *
+ * <p>The contexts only get attached, they neither get started nor ended on the executing thread.
+ * The submitter is responsible to keep them alive until the task finished,
+ * e.g. by only completing an AsyncContext after the task ran.</p>
+ *
+ * @see ContextsService#snapshotContexts()
+ */
+public class ContextPropagatingExecutor implements Executor
+{
+    private final ContextsService contextsService;
+    private final Executor delegate;
+
+    public ContextPropagatingExecutor(WebBeansContext webBeansContext, Executor delegate)
+    {
+        this.contextsService = webBeansContext.getContextsService();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        delegate.execute(wrap(command));
+    }
+
+    /**
+     * @return a Runnable which runs the given command with the contexts of the current thread
+     */
+    public Runnable wrap(Runnable command)
+    {
+        Object snapshot = contextsService.snapshotContexts();
+        if (snapshot == null)
+        {
+            return command;
+        }
+        return new ContextualRunnable(contextsService, snapshot, command);
+    }
+
+    private static final class ContextualRunnable implements Runnable
+    {
+        private final ContextsService contextsService;
+        private final Object snapshot;
+        private final Runnable command;
+
+        private ContextualRunnable(ContextsService contextsService, Object snapshot, Runnable command)
+        {
+            this.contextsService = contextsService;
+            this.snapshot = snapshot;
+            this.command = command;
+        }
+
+        @Override
+        public void run()
+        {
+            Object previous = contextsService.attachContexts(snapshot);
+            try
+            {
+                command.run();
+            }
+            finally
+            {
+                contextsService.detachContexts(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.enterprise.context.spi.Contextual;
+
+import org.apache.webbeans.container.ContextualMap;
+import org.apache.webbeans.container.SerializableBean;
+
+/**
+ * Already created contextual instances published into a stable array slot per bean ordinal.
+ * Lookups neither need a Map nor the active check of the context:
+ * instances only get published while the context is active and the slots get cleared
+ * before the context gets deactivated and before and after an instance gets destroyed.
+ *
+ * Used for contexts with few, long living instances like &#064;ApplicationScoped and &#064;Singleton.
+ */
+final class ContextualInstanceSlots
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile AtomicReferenceArray<PublishedInstance> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /**
+     * mirrors the active flag of the context, guarded by this
+     */
+    private boolean enabled;
+
+    /**
+     * @return the published instance or {@code null}
+     */
+    Object get(Contextual<?> contextual)
+    {
+        int ordinal = ContextualMap.ordinalOf(contextual);
+        AtomicReferenceArray<PublishedInstance> table = slots;
+        if (ordinal < 0 || ordinal >= table.length())
+        {
+            return null;
+        }
+
+        PublishedInstance published = table.get(ordinal);
+        // the bean check protects against ordinals of beans from another BeanManager
+        return published != null && published.bean == unwrap(contextual) ? published.instance : null;
+    }
+
+    /**
+     * Publish the instance of the given bag, but only if the bag is still the current one of the context.
+     * Destroying an instance removes the bag from the context first and clears the slot afterwards,
+     * so an instance which is about to get destroyed can't stay published.
+     *
+     * @param instances the instance map of the context
+     * @param bag the bag the instance got taken from
+     */
+    synchronized void publish(Contextual<?> contextual, Object instance, Map<Contextual<?>, ?> instances, Object bag)
+    {
+        int ordinal = ContextualMap.ordinalOf(contextual);
+        if (!enabled || ordinal < 0 || instance == null || instances.get(contextual) != bag)
+        {
+            return;
+        }
+
+        AtomicReferenceArray<PublishedInstance> table = slots;
+        if (ordinal >= table.length())
+        {
+            int capacity = table.length();
+            while (capacity <= ordinal)
+            {
+                capacity <<= 1;
+            }
+            AtomicReferenceArray<PublishedInstance> newTable = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < table.length(); i++)
+            {
+                newTable.set(i, table.get(i));
+            }
+            table = newTable;
+            slots = table;
+        }
+        table.set(ordinal, new PublishedInstance(unwrap(contextual), instance));
+    }
+
+    synchronized void remove(Contextual<?> contextual)
+    {
+        int ordinal = ContextualMap.ordinalOf(contextual);
+        AtomicReferenceArray<PublishedInstance> table = slots;
+        if (ordinal >= 0 && ordinal < table.length())
+        {
+            table.set(ordinal, null);
+        }
+    }
+
+    /**
+     * Disabling drops all published instances.
+     */
+    synchronized void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+        if (!enabled)
+        {
+            slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        }
+    }
+
+    private static Object unwrap(Contextual<?> contextual)
+    {
+        return contextual instanceof SerializableBean ? ((SerializableBean<?>) contextual).getBean() : contextual;
+    }
+
+    private static final class PublishedInstance
+    {
+        private final Object bean;
+        private final Object instance;
+
+        private PublishedInstance(Object bean, Object instance)
+        {
+            this.bean = bean;
+            this.instance = instance;
+        }
+    }
+}
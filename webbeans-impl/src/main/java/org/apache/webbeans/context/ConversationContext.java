@@ -21,11 +21,11 @@ package org.apache.webbeans.context;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ConversationScoped;
 
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.container.ContextualMap;
 import org.apache.webbeans.conversation.ConversationImpl;
 
 /**
@@ -58,7 +58,7 @@ public class ConversationContext extends PassivatingContext
     @Override
     public void setComponentInstanceMap()
     {
-        componentInstanceMap = new ConcurrentHashMap<>();
+        componentInstanceMap = new ContextualMap<>();
     }
 
     public ConversationImpl getConversation()
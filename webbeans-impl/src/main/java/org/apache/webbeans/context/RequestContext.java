@@ -18,11 +18,10 @@
  */
 package org.apache.webbeans.context;
 
-import java.util.HashMap;
-
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.spi.Contextual;
 
+import org.apache.webbeans.container.ContextualMap;
 import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
 
 /**
@@ -55,7 +54,7 @@ public class RequestContext extends AbstractContext
     @Override
     public void setComponentInstanceMap()
     {
-        componentInstanceMap = new HashMap<>();
+        componentInstanceMap = new ContextualMap<>();
     }
 
     /**
@@ -18,11 +18,10 @@
  */
 package org.apache.webbeans.context;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 import javax.enterprise.context.SessionScoped;
 import javax.enterprise.context.spi.Contextual;
 
+import org.apache.webbeans.container.ContextualMap;
 import org.apache.webbeans.intercept.SessionScopedBeanInterceptorHandler;
 
 /**
@@ -32,15 +31,50 @@ public class SessionContext extends PassivatingContext
 {
     private static final long serialVersionUID = 2L;
 
+    /**
+     * whether instances got created or destroyed since the last {@link #resetDirty()}
+     */
+    private transient volatile boolean dirty;
+
     public SessionContext()
     {
         super(SessionScoped.class);
     }
 
+    /**
+     * Marks this context as changed, e.g. after the state of a &#064;SessionScoped bean got modified,
+     * so it gets replicated at the end of the request.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    /**
+     * @return whether this context was dirty
+     */
+    public boolean resetDirty()
+    {
+        boolean wasDirty = dirty;
+        dirty = false;
+        return wasDirty;
+    }
+
+    @Override
+    protected void instancesChanged()
+    {
+        dirty = true;
+    }
+
     @Override
     public void setComponentInstanceMap()
     {
-        componentInstanceMap = new ConcurrentHashMap<>();
+        componentInstanceMap = new ContextualMap<>();
     }
 
     @Override
@@ -18,10 +18,10 @@
  */
 package org.apache.webbeans.context;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 import javax.inject.Singleton;
 
+import org.apache.webbeans.container.ContextualMap;
+
 /**
  * Application context implementation.
  * 
@@ -33,11 +33,12 @@ public class SingletonContext extends AbstractContext
     public SingletonContext()
     {
         super(Singleton.class);
+        publishInstances();
     }
 
     @Override
     public void setComponentInstanceMap()
     {
-        componentInstanceMap = new ConcurrentHashMap<>();
+        componentInstanceMap = new ContextualMap<>();
     }
 }
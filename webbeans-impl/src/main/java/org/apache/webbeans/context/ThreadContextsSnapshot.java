@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context;
+
+import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
+import org.apache.webbeans.intercept.SessionScopedBeanInterceptorHandler;
+import org.apache.webbeans.spi.ContextsService;
+
+/**
+ * The thread bound contexts of a thread at a given point in time.
+ * It only references the context instances, so taking a snapshot doesn't allocate anything else.
+ *
+ * @see ContextsService#snapshotContexts()
+ */
+public final class ThreadContextsSnapshot
+{
+    private static final ThreadContextsSnapshot EMPTY = new ThreadContextsSnapshot(null, null, null);
+
+    private final RequestContext requestContext;
+    private final SessionContext sessionContext;
+    private final ConversationContext conversationContext;
+
+    public ThreadContextsSnapshot(RequestContext requestContext, SessionContext sessionContext, ConversationContext conversationContext)
+    {
+        this.requestContext = requestContext;
+        this.sessionContext = sessionContext;
+        this.conversationContext = conversationContext;
+    }
+
+    public RequestContext getRequestContext()
+    {
+        return requestContext;
+    }
+
+    public SessionContext getSessionContext()
+    {
+        return sessionContext;
+    }
+
+    public ConversationContext getConversationContext()
+    {
+        return conversationContext;
+    }
+
+    /**
+     * @return a snapshot of the given contexts or {@code null} if none of them is bound to the thread
+     */
+    public static ThreadContextsSnapshot of(RequestContext requestContext, SessionContext sessionContext,
+                                            ConversationContext conversationContext)
+    {
+        if (requestContext == null && sessionContext == null && conversationContext == null)
+        {
+            return null;
+        }
+        return new ThreadContextsSnapshot(requestContext, sessionContext, conversationContext);
+    }
+
+    /**
+     * @param snapshot a value of {@link ContextsService#snapshotContexts()} or {@link ContextsService#attachContexts(Object)}
+     * @return the snapshot or an empty snapshot if {@code null} got passed
+     * @throws IllegalArgumentException if the snapshot has not been taken by an OpenWebBeans ContextsService
+     */
+    public static ThreadContextsSnapshot of(Object snapshot)
+    {
+        if (snapshot == null)
+        {
+            return EMPTY;
+        }
+        if (!(snapshot instanceof ThreadContextsSnapshot))
+        {
+            throw new IllegalArgumentException("Unknown context snapshot " + snapshot.getClass().getName());
+        }
+        return (ThreadContextsSnapshot) snapshot;
+    }
+
+    /**
+     * The normal scoped proxies cache the contextual instances per thread.
+     * Those caches must not survive a switch of the attached contexts.
+     */
+    public static void clearProxyCaches()
+    {
+        RequestScopedBeanInterceptorHandler.removeThreadLocals();
+        SessionScopedBeanInterceptorHandler.removeThreadLocals();
+    }
+}
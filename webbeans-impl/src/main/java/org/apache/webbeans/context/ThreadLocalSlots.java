@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context;
+
+/**
+ * A fixed number of ThreadLocals which share a single ThreadLocal entry per thread.
+ *
+ * <p>Each slot keeps the ThreadLocal API, so the thread bound contexts of the ContextsService
+ * implementations can still be accessed the same way, while a thread only carries a single entry.
+ * The entry gets removed as soon as the last slot got cleared,
+ * which is important for short living (e.g. virtual) threads.</p>
+ */
+public final class ThreadLocalSlots
+{
+    private final ThreadLocal<Object[]> values = new ThreadLocal<>();
+
+    private final int size;
+
+    private int created;
+
+    public ThreadLocalSlots(int size)
+    {
+        this.size = size;
+    }
+
+    /**
+     * @return the next free slot
+     */
+    public synchronized <T> ThreadLocal<T> newSlot()
+    {
+        if (created == size)
+        {
+            throw new IllegalStateException("All " + size + " slots are already in use");
+        }
+        return new Slot<>(created++);
+    }
+
+    private final class Slot<T> extends ThreadLocal<T>
+    {
+        private final int index;
+
+        private Slot(int index)
+        {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get()
+        {
+            Object[] current = values.get();
+            if (current == null)
+            {
+                values.remove();
+                return null;
+            }
+            return (T) current[index];
+        }
+
+        @Override
+        public void set(T value)
+        {
+            if (value == null)
+            {
+                remove();
+                return;
+            }
+
+            Object[] current = values.get();
+            if (current == null)
+            {
+                current = new Object[size];
+                values.set(current);
+            }
+            current[index] = value;
+        }
+
+        @Override
+        public void remove()
+        {
+            Object[] current = values.get();
+            if (current == null)
+            {
+                values.remove();
+                return;
+            }
+
+            current[index] = null;
+            for (Object value : current)
+            {
+                if (value != null)
+                {
+                    return;
+                }
+            }
+            values.remove();
+        }
+    }
+}
@@ -21,23 +21,22 @@ package org.apache.webbeans.context.creational;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import java.io.Serializable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Stores the CreationalContext and the Contextual Instance.
  * This also makes sure that we don't create the same bean
  * twice.
+ *
+ * There might be a huge number of bags (e.g. per session),
+ * thus we use the monitor of the bag instead of a dedicated Lock.
  */
 public class BeanInstanceBag<T> implements Serializable
 {
     private static final long serialVersionUID = 1656996021599122499L;
     private final CreationalContext<T> beanCreationalContext;
     
-    private T beanInstance;
-    
-    private final Lock lock = new ReentrantLock();
-    
+    private volatile T beanInstance;
+
     public BeanInstanceBag(CreationalContext<T> beanCreationalContext)
     {
         this.beanCreationalContext = beanCreationalContext;
@@ -66,23 +65,24 @@ public class BeanInstanceBag<T> implements Serializable
      */
     public T create(Contextual<T> contextual)
     {
-        try
+        T instance = beanInstance;
+        if (instance != null)
+        {
+            return instance;
+        }
+
+        synchronized (this)
         {
-            lock.lock();
-            
             // we need to check again, maybe we got blocked by a previous invocation
-            if (beanInstance == null)
+            instance = beanInstance;
+            if (instance == null)
             {
-                beanInstance = contextual.create(beanCreationalContext);
+                instance = contextual.create(beanCreationalContext);
+                beanInstance = instance;
             }
-            
         }
-        finally
-        {
-            lock.unlock();
-        }
-        
-        return beanInstance; 
+
+        return instance;
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.webbeans.context.creational;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.webbeans.config.WebBeansContext;
 
@@ -34,6 +35,11 @@ public final class CreationalContextFactory<T>
 {
     private WebBeansContext webBeansContext;
 
+    /**
+     * number of dependent instances which got added to a CreationalContext but not yet destroyed
+     */
+    private final LongAdder unreleasedDependents = new LongAdder();
+
     /**
      * Creates a new <code>CreationalContextFactory</code> instance.
      * @param webBeansContext
@@ -58,5 +64,27 @@ public final class CreationalContextFactory<T>
     {
         return new WrappedCreationalContext<>(contextual, creationalContext, webBeansContext);
     }
+
+    /**
+     * A steadily growing value is a hint for a leak, e.g. &#064;Dependent instances
+     * obtained via {@code Instance#get()} which never get destroyed.
+     * The value is approximate, dependents of passivated CreationalContexts get counted again after activation.
+     *
+     * @return the number of dependent instances which are tracked by CreationalContexts and didn't get destroyed yet
+     */
+    public long getUnreleasedDependentCount()
+    {
+        return unreleasedDependents.sum();
+    }
+
+    void dependentsAdded(int count)
+    {
+        unreleasedDependents.add(count);
+    }
+
+    void dependentsReleased(int count)
+    {
+        unreleasedDependents.add(-count);
+    }
     
 }
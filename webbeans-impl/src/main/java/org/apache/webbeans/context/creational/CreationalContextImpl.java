@@ -32,9 +32,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /** {@inheritDoc} */
 public class CreationalContextImpl<T> implements CreationalContext<T>, Serializable
@@ -42,6 +47,25 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
     //Default serial id
     private static final long serialVersionUID = 1L;
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, ConcurrentMap> DEPENDENT_OBJECTS
+        = AtomicReferenceFieldUpdater.newUpdater(CreationalContextImpl.class, ConcurrentMap.class, "dependentObjects");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<CreationalContextImpl> DEPENDENT_SEQUENCE
+        = AtomicLongFieldUpdater.newUpdater(CreationalContextImpl.class, "dependentSequence");
+
+    /**
+     * the bean itself first, all other dependents in the order they got added
+     */
+    private static final Comparator<DependentEntry> INSERTION_ORDER = (a, b) -> Long.compare(a.order, b.order);
+
+    /**
+     * the bean itself first, all other dependents in reverse order they got added
+     */
+    private static final Comparator<DependentEntry> DESTROY_ORDER = (a, b) ->
+        a.order < 0 || b.order < 0 ? Long.compare(a.order, b.order) : Long.compare(b.order, a.order);
+
     /**
      * The delegate object to be injected into delegate injection points
      */
@@ -50,19 +74,25 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
     /**
      * The injection point objects to be injected into injection points of type InjectionPoint
      */
-    private transient LinkedList<InjectionPoint> injectionPoints;
+    private transient MetadataStack<InjectionPoint> injectionPoints;
     
     /**
      * The EventMetadata objects to be injected into injection points of type EventMetadata
      */
-    private transient LinkedList<EventMetadata> eventMetadata;
+    private transient MetadataStack<EventMetadata> eventMetadata;
 
     /**
-     * Contextual bean dependent instances
+     * Contextual bean dependent instances keyed by the identity of the instance.
+     * Adding a dependent doesn't lock this CreationalContext.
      *
      * <p><b>ATTENTION</b> This variable gets initiated lazily!</p>
      */
-    private List<DependentCreationalContext<?>> dependentObjects;
+    private transient volatile ConcurrentMap<DependentKey, DependentEntry> dependentObjects;
+
+    /**
+     * insertion order of the {@link #dependentObjects}, a long as long living contexts can get billions of dependents
+     */
+    private transient volatile long dependentSequence;
 
     /**
      * Contains the currently created bean
@@ -117,56 +147,40 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
 
     public InjectionPoint getInjectionPoint()
     {
-        if (injectionPoints == null || injectionPoints.isEmpty())
-        {
-            return null;
-        }
-        return injectionPoints.peek();
+        return injectionPoints != null ? injectionPoints.peek() : null;
     }
 
     public void putInjectionPoint(InjectionPoint injectionPoint)
     {
         if (injectionPoints == null)
         {
-            injectionPoints = new LinkedList<>();
+            injectionPoints = new MetadataStack<>();
         }
         injectionPoints.push(injectionPoint);
     }
 
     public InjectionPoint removeInjectionPoint()
     {
-        if (injectionPoints == null || injectionPoints.isEmpty())
-        {
-            return null;
-        }
-        return injectionPoints.pop();
+        return injectionPoints != null ? injectionPoints.pop() : null;
     }
 
     public EventMetadata getEventMetadata()
     {
-        if (eventMetadata == null || eventMetadata.isEmpty())
-        {
-            return null;
-        }
-        return eventMetadata.peek();
+        return eventMetadata != null ? eventMetadata.peek() : null;
     }
 
     public void putEventMetadata(EventMetadata metadata)
     {
         if (eventMetadata == null)
         {
-            eventMetadata = new LinkedList<>();
+            eventMetadata = new MetadataStack<>();
         }
         eventMetadata.push(metadata);
     }
 
     public EventMetadata removeEventMetadata()
     {
-        if (eventMetadata == null || eventMetadata.isEmpty())
-        {
-            return null;
-        }
-        return eventMetadata.pop();
+        return eventMetadata != null ? eventMetadata.pop() : null;
     }
 
     /**
@@ -193,68 +207,85 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
             DependentCreationalContext<K> dependentCreational = new DependentCreationalContext<>(dependent);
             dependentCreational.setInstance(instance);
 
-            synchronized(this)
-            {
-                if (dependentObjects == null)
-                {
-                    dependentObjects = new ArrayList<>();
-                }
+            addDependent(dependentCreational);
+        }
+    }
 
-                if (dependent == bean)
-                {
-                    dependentObjects.add(0, dependentCreational);
-                }
-                else
-                {
-                    dependentObjects.add(dependentCreational);
-                }
-            }
+    @SuppressWarnings("unchecked")
+    private void addDependent(DependentCreationalContext<?> dependentCreational)
+    {
+        ConcurrentMap<DependentKey, DependentEntry> dependents = dependentObjects;
+        if (dependents == null)
+        {
+            DEPENDENT_OBJECTS.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+            dependents = dependentObjects;
+        }
+
+        // the bean itself gets destroyed before all other dependents
+        long order = DEPENDENT_SEQUENCE.incrementAndGet(this);
+        if (dependentCreational.getContextual() == bean)
+        {
+            order += Long.MIN_VALUE;
         }
+
+        DependentKey key = new DependentKey(dependentCreational.getInstance());
+        DependentEntry entry = new DependentEntry(key, dependentCreational, order, null);
+        if (dependents.putIfAbsent(key, entry) != null)
+        {
+            // rare case: the same instance got added multiple times
+            dependents.merge(key, entry, (existing, added) -> new DependentEntry(key, dependentCreational, order, existing));
+        }
+        webBeansContext.getCreationalContextFactory().dependentsAdded(1);
     }
 
     public boolean containsDependent(Contextual<?> contextual, Object instance)
     {
-        if (dependentObjects == null)
+        ConcurrentMap<DependentKey, DependentEntry> dependents = dependentObjects;
+        if (dependents == null)
         {
             return false;
         }
-        synchronized (this)
+
+        for (DependentEntry entry = dependents.get(new DependentKey(instance)); entry != null; entry = entry.next)
         {
-            for (DependentCreationalContext<?> dependentCreationalContext: dependentObjects)
+            if (entry.dependent.getContextual().equals(contextual))
             {
-                if (dependentCreationalContext.getContextual().equals(contextual) && dependentCreationalContext.getInstance() == instance)
-                {
-                    return true;
-                }
+                return true;
             }
-            return false;
         }
+        return false;
     }
 
     public <X> void destroyDependent(X instance)
     {
-        if (dependentObjects == null)
+        ConcurrentMap<DependentKey, DependentEntry> dependents = dependentObjects;
+        if (dependents == null)
+        {
+            return;
+        }
+
+        DependentEntry head = dependents.get(new DependentKey(instance));
+        if (head == null)
         {
             return;
         }
-        synchronized (this)
+
+        // if the instance got added multiple times the bean itself or else the first added one gets destroyed
+        DependentEntry entry = head;
+        for (DependentEntry candidate = head.next; candidate != null; candidate = candidate.next)
         {
-            for (Iterator<DependentCreationalContext<?>> i = dependentObjects.iterator(); i.hasNext();)
+            if (candidate.order < entry.order)
             {
-                DependentCreationalContext<?> dependentContext = i.next();
-                if (dependentContext.getInstance() == instance)
-                {
-                    Contextual<X> dependentContextual = (Contextual<X>)dependentContext.getContextual();
-                    CreationalContext<X> creationalContext = (CreationalContext<X>)this;
-                    dependentContextual.destroy(instance, creationalContext);
-                    if (dependentObjects != null)
-                    {
-                        i.remove();
-                    } // else previous destroy removed it
-                    break;
-                }
+                entry = candidate;
             }
         }
+
+        Contextual<X> dependentContextual = (Contextual<X>) entry.dependent.getContextual();
+        CreationalContext<X> creationalContext = (CreationalContext<X>) this;
+        dependentContextual.destroy(instance, creationalContext);
+
+        // the destroy might already have removed it
+        unlink(dependents, entry);
     }
 
     @SuppressWarnings("unchecked")
@@ -269,21 +300,27 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
 
         synchronized(this)
         {
-            if (dependentObjects != null)
+            ConcurrentMap<DependentKey, DependentEntry> dependents = dependentObjects;
+            if (dependents != null)
             {
                 // this is kind of an emergency valve...
-                int maxRemoval = dependentObjects.size() * 3;
-                while (!dependentObjects.isEmpty() && maxRemoval > 0)
+                int maxRemoval = dependents.size() * 3;
+                List<DependentEntry> pending;
+                while (maxRemoval > 0 && !(pending = sortedDependents(dependents, DESTROY_ORDER)).isEmpty())
                 {
-                    // we don't use an iterator because the destroyal might register a 
-                    // fresh PreDestroy interceptor as dependent object...
-                    DependentCreationalContext<T> dependent = (DependentCreationalContext<T>) dependentObjects.get(0);
-                    dependentObjects.remove(0);
-                    dependent.getContextual().destroy((T) dependent.getInstance(), this);
-                    maxRemoval--;
+                    // the destroyal might register a fresh PreDestroy interceptor as dependent object,
+                    // those get picked up in the next round
+                    for (DependentEntry entry : pending)
+                    {
+                        if (unlink(dependents, entry))
+                        {
+                            entry.dependent.getContextual().destroy((T) entry.dependent.getInstance(), this);
+                            maxRemoval--;
+                        }
+                    }
                 }
                     
-                if (maxRemoval == 0)
+                if (maxRemoval <= 0 && !dependents.isEmpty())
                 {
                     throw new WebBeansException("infinite loop detected while destroying bean " + bean);
                 }
@@ -292,6 +329,59 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
 
         dependentObjects = null;
     }
+
+    /**
+     * Removes the given entry from the dependents.
+     * @return {@code false} if it already got removed
+     */
+    private boolean unlink(ConcurrentMap<DependentKey, DependentEntry> dependents, DependentEntry entry)
+    {
+        boolean removed;
+        if (entry.next == null && dependents.remove(entry.key, entry))
+        {
+            removed = true;
+        }
+        else
+        {
+            boolean[] found = new boolean[1];
+            dependents.computeIfPresent(entry.key, (key, head) ->
+            {
+                DependentEntry remaining = head.without(entry);
+                found[0] = remaining != head;
+                return remaining;
+            });
+            removed = found[0];
+        }
+
+        if (removed)
+        {
+            webBeansContext.getCreationalContextFactory().dependentsReleased(1);
+        }
+        return removed;
+    }
+
+    /**
+     * @return all dependents sorted by the given order
+     */
+    private static List<DependentEntry> sortedDependents(ConcurrentMap<DependentKey, DependentEntry> dependents,
+                                                         Comparator<DependentEntry> order)
+    {
+        if (dependents.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        List<DependentEntry> sorted = new ArrayList<>(dependents.size());
+        for (DependentEntry head : dependents.values())
+        {
+            for (DependentEntry entry = head; entry != null; entry = entry.next)
+            {
+                sorted.add(entry);
+            }
+        }
+        sorted.sort(order);
+        return sorted;
+    }
     
     /**
      * {@inheritDoc}
@@ -332,7 +422,20 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
     private void writeObject(ObjectOutputStream s)
     throws IOException
     {
-        s.writeObject(dependentObjects);
+        ConcurrentMap<DependentKey, DependentEntry> dependents = dependentObjects;
+        if (dependents != null)
+        {
+            List<DependentCreationalContext<?>> dependentList = new ArrayList<>();
+            for (DependentEntry entry : sortedDependents(dependents, INSERTION_ORDER))
+            {
+                dependentList.add(entry.dependent);
+            }
+            s.writeObject(dependentList);
+        }
+        else
+        {
+            s.writeObject(null);
+        }
 
         String id = WebBeansUtil.getPassivationId(bean);
         if (bean != null && id != null)
@@ -354,7 +457,7 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
     throws IOException, ClassNotFoundException
     {
         webBeansContext = WebBeansContext.currentInstance();
-        dependentObjects = (List<DependentCreationalContext<?>>)s.readObject();
+        List<DependentCreationalContext<?>> dependentList = (List<DependentCreationalContext<?>>)s.readObject();
 
         String id = (String) s.readObject();
         if (id != null)
@@ -362,6 +465,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
             bean = (Bean<T>) webBeansContext.getBeanManagerImpl().getPassivationCapableBean(id);
         }
 
+        if (dependentList != null)
+        {
+            for (DependentCreationalContext<?> dependent : dependentList)
+            {
+                addDependent(dependent);
+            }
+        }
+
     }
 
     @Override
@@ -374,4 +485,102 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Serializa
 
         return sb.append("}").toString();
     }
+
+    /**
+     * Identity based key of a dependent instance
+     */
+    private static final class DependentKey
+    {
+        private final Object instance;
+
+        private DependentKey(Object instance)
+        {
+            this.instance = instance;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof DependentKey && ((DependentKey) o).instance == instance;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(instance);
+        }
+    }
+
+    /**
+     * Immutable chain of all dependents with the same instance, usually just one.
+     */
+    private static final class DependentEntry
+    {
+        private final DependentKey key;
+        private final DependentCreationalContext<?> dependent;
+        private final long order;
+        private final DependentEntry next;
+
+        private DependentEntry(DependentKey key, DependentCreationalContext<?> dependent, long order, DependentEntry next)
+        {
+            this.key = key;
+            this.dependent = dependent;
+            this.order = order;
+            this.next = next;
+        }
+
+        /**
+         * @return the chain without the given entry, this if it isn't contained
+         */
+        private DependentEntry without(DependentEntry entry)
+        {
+            if (this == entry)
+            {
+                return next;
+            }
+            if (next == null)
+            {
+                return this;
+            }
+            DependentEntry remaining = next.without(entry);
+            return remaining == next ? this : new DependentEntry(key, dependent, order, remaining);
+        }
+    }
+
+    /**
+     * Array based LIFO stack which gets reused for all pushes of a CreationalContext.
+     * Unlike a LinkedList it doesn't allocate a node per push.
+     */
+    private static final class MetadataStack<E>
+    {
+        private Object[] elements = new Object[4];
+        private int size;
+
+        private void push(E element)
+        {
+            if (size == elements.length)
+            {
+                elements = Arrays.copyOf(elements, size << 1);
+            }
+            elements[size++] = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E peek()
+        {
+            return size > 0 ? (E) elements[size - 1] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E pop()
+        {
+            if (size == 0)
+            {
+                return null;
+            }
+            E element = (E) elements[--size];
+            elements[size] = null;
+            return element;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.webbeans.spi.BdaScannerService;
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
 import org.apache.webbeans.util.ClassUtil;
+import org.apache.webbeans.util.ParallelUtil;
 import org.apache.webbeans.util.UrlSet;
 import org.apache.webbeans.util.WebBeansUtil;
 import org.apache.xbean.finder.AnnotationFinder;
@@ -39,20 +40,32 @@ import org.apache.xbean.finder.archive.Archive;
 import org.apache.xbean.finder.filter.Filter;
 
 import javax.decorator.Decorator;
+import javax.enterprise.inject.spi.Extension;
 import javax.interceptor.Interceptor;
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 
 
@@ -88,8 +101,29 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
      */
     private Map<BeanArchiveService.BeanArchiveInformation, Set<Class<?>>> beanClassesPerBda;
 
+    /**
+     * the scan result of a previous boot which gets used instead of scanning the bean archives
+     */
+    private ScanSnapshot scanSnapshot;
+
+    /**
+     * fingerprint of the bean archives, only set if the scan snapshot is enabled
+     */
+    private String scanFingerprint;
+
+    /**
+     * the scan result which gets stored once the boot succeeded
+     */
+    private ScanSnapshot pendingScanSnapshot;
+
     protected String[] scanningExcludes;
 
+    /**
+     * all scan excludes with wildcards compiled into a single pattern, matched against the jar name.
+     * {@code null} if there are no such excludes.
+     */
+    private Pattern scanningExcludedJarNames;
+
     protected ClassLoader loader;
     protected CdiArchive archive;
     protected OwbAnnotationFinder finder;
@@ -110,9 +144,41 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         }
 
         Filter userFilter = webBeansContext().getService(Filter.class);
-        archive = new CdiArchive(beanArchiveService, WebBeansUtil.getCurrentClassLoader(), getBeanDeploymentUrls(), userFilter, getAdditionalArchive());
-        finder = new OwbAnnotationFinder(archive);
+        boolean useIndex = webBeansContext().getOpenWebBeansConfiguration().useBeanArchiveIndex();
+        archive = new CdiArchive(beanArchiveService, WebBeansUtil.getCurrentClassLoader(), getBeanDeploymentUrls(), userFilter,
+                getAdditionalArchive(), useIndex);
 
+        int parallelism = webBeansContext().getOpenWebBeansConfiguration().getBootParallelism();
+        List<Archive> archives = archive.getArchives();
+        if (parallelism > 1 && archives.size() > 1)
+        {
+            // read the bytecode of each classpath entry on its own thread, the merge keeps the sequential order
+            finder = new OwbAnnotationFinder(archive, ParallelUtil.map(parallelism, archives, OwbAnnotationFinder::new));
+        }
+        else
+        {
+            finder = new OwbAnnotationFinder(archive);
+        }
+
+        // classes of archives with a build time index didn't get read by the finder
+        for (Map.Entry<String, List<String>> indexedClass : archive.indexedClasses().entrySet())
+        {
+            finder.addIndexedClass(indexedClass.getKey(), indexedClass.getValue());
+        }
+
+        return finder;
+    }
+
+    /**
+     * @return the annotation finder of the bean archives or {@code null} after {@link #release()}.
+     *         If the bean classes got restored from a scan snapshot, the finder gets built on the first call.
+     */
+    protected OwbAnnotationFinder getOrCreateFinder()
+    {
+        if (finder == null && scanSnapshot != null)
+        {
+            initFinder();
+        }
         return finder;
     }
 
@@ -150,7 +216,11 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         try
         {
             configure();
-            initFinder();
+            scanSnapshot = loadScanSnapshot();
+            if (scanSnapshot == null)
+            {
+                initFinder();
+            }
         }
         catch (Exception e)
         {
@@ -253,6 +323,12 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         {
             URL url = it.next();
             String path = url.toExternalForm();
+            if (isExcludedJarName(path))
+            {
+                it.remove();
+                continue;
+            }
+
             // TODO: should extract file path and test file.getName(), not the whole path
             // + should be configurable
             int knownJarIdx = isExcludedJar(path);
@@ -286,11 +362,39 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
     @Override
     public void release()
     {
+        // only gets called after a successful boot
+        if (pendingScanSnapshot != null)
+        {
+            File snapshotFile = webBeansContext().getOpenWebBeansConfiguration().getScanSnapshotFile();
+            try
+            {
+                pendingScanSnapshot.write(snapshotFile);
+            }
+            catch (IOException e)
+            {
+                logger.log(Level.WARNING, "Cannot write the scan snapshot " + snapshotFile, e);
+            }
+            pendingScanSnapshot = null;
+        }
+        scanSnapshot = null;
+
         finder = null;
         archive = null;
         loader = null;
     }
 
+    /**
+     * Drop the bean classes per bean archive, they are only needed while deploying.
+     * Gets called after {@link #release()} if the container shall get compacted after boot.
+     * {@link #getBeanClassesPerBda()} returns an empty Map afterwards.
+     *
+     * @see org.apache.webbeans.config.OpenWebBeansConfiguration#COMPACT_AFTER_BOOT
+     */
+    public void compact()
+    {
+        beanClassesPerBda = Collections.emptyMap();
+    }
+
 
     /**
      * Add an URL for a deployment later on
@@ -332,11 +436,74 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         {
             OpenWebBeansConfiguration owbConfiguration = WebBeansContext.currentInstance().getOpenWebBeansConfiguration();
             String scanningExcludesProperty = owbConfiguration.getProperty(OpenWebBeansConfiguration.SCAN_EXCLUSION_PATHS);
-            List<String> excludes = owbConfiguration.splitValues(scanningExcludesProperty);
+            List<String> excludes = new ArrayList<>();
+            StringBuilder jarNamePattern = new StringBuilder();
+            for (String exclude : owbConfiguration.splitValues(scanningExcludesProperty))
+            {
+                if (exclude.indexOf('*') < 0 && exclude.indexOf('?') < 0)
+                {
+                    excludes.add(exclude);
+                    continue;
+                }
+
+                if (jarNamePattern.length() > 0)
+                {
+                    jarNamePattern.append('|');
+                }
+                appendGlob(jarNamePattern, exclude);
+            }
+            scanningExcludedJarNames = jarNamePattern.length() > 0 ? Pattern.compile(jarNamePattern.toString()) : null;
             scanningExcludes = excludes.toArray(new String[excludes.size()]);
         }
     }
 
+    private static void appendGlob(StringBuilder pattern, String glob)
+    {
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++)
+        {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?')
+            {
+                if (literal.length() > 0)
+                {
+                    pattern.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                pattern.append(c == '*' ? "[^/]*" : "[^/]");
+            }
+            else
+            {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0)
+        {
+            pattern.append(Pattern.quote(literal.toString()));
+        }
+    }
+
+    /**
+     * @param path the externalForm of a classpath entry
+     * @return whether the name of the jar or directory matches one of the wildcard scan excludes
+     */
+    protected boolean isExcludedJarName(String path)
+    {
+        initScanningExcludes();
+        if (scanningExcludedJarNames == null)
+        {
+            return false;
+        }
+
+        int end = path.length();
+        while (end > 0 && (path.charAt(end - 1) == '/' || path.charAt(end - 1) == '!'))
+        {
+            end--;
+        }
+        String name = path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+        return scanningExcludedJarNames.matcher(name).matches();
+    }
+
     /**
      * add the given beans.xml path to the locations list
      * @param beanArchiveUrl location path
@@ -378,24 +545,35 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
         {
             beanClassesPerBda = new HashMap<>();
 
-            for (CdiArchive.FoundClasses foundClasses : archive.classesByUrl().values())
+            // key: URL#toExternalForm of the bean archive
+            Map<String, List<String>> candidatesPerBda;
+            if (scanSnapshot != null)
+            {
+                candidatesPerBda = scanSnapshot.getClassNamesPerArchive();
+            }
+            else
+            {
+                candidatesPerBda = findBeanCandidates();
+                if (scanFingerprint != null)
+                {
+                    pendingScanSnapshot = new ScanSnapshot(scanFingerprint, candidatesPerBda);
+                }
+            }
+
+            List<String> allCandidates = new ArrayList<>();
+            for (List<String> candidates : candidatesPerBda.values())
+            {
+                allCandidates.addAll(candidates);
+            }
+            preloadClasses(allCandidates);
+
+            for (Map.Entry<String, List<String>> bdaCandidates : candidatesPerBda.entrySet())
             {
                 Set<Class<?>> classSet = new HashSet<>();
-                boolean scanModeAnnotated = BeanDiscoveryMode.ANNOTATED == foundClasses.getBeanArchiveInfo().getBeanDiscoveryMode();
-                for (String className : foundClasses.getClassNames())
+                for (String className : bdaCandidates.getValue())
                 {
                     try
                     {
-                        if (scanModeAnnotated)
-                        {
-                            // in this case we need to find out whether we should keep this class in the Archive
-                            AnnotationFinder.ClassInfo classInfo = finder.getClassInfo(className);
-                            if (classInfo == null || !isBeanAnnotatedClass(classInfo))
-                            {
-                                continue;
-                            }
-                        }
-
                         Class<?> clazz = ClassUtil.getClassFromName(className);
                         if (clazz != null)
                         {
@@ -423,13 +601,266 @@ public abstract class AbstractMetaDataDiscovery implements BdaScannerService
                     }
                 }
 
-                beanClassesPerBda.put(foundClasses.getBeanArchiveInfo(), classSet);
+                beanClassesPerBda.put(getBeanArchiveInformation(bdaCandidates.getKey()), classSet);
             }
 
         }
         return beanClassesPerBda;
     }
 
+    /**
+     * @return the names of all classes which might become a bean per bean archive URL
+     */
+    private Map<String, List<String>> findBeanCandidates()
+    {
+        Map<String, List<String>> candidatesPerBda = new LinkedHashMap<>();
+        List<String> allCandidates = new ArrayList<>();
+        for (Map.Entry<String, CdiArchive.FoundClasses> bda : archive.classesByUrl().entrySet())
+        {
+            CdiArchive.FoundClasses foundClasses = bda.getValue();
+            List<String> candidates = new ArrayList<>(foundClasses.getClassNames().size());
+            boolean scanModeAnnotated = BeanDiscoveryMode.ANNOTATED == foundClasses.getBeanArchiveInfo().getBeanDiscoveryMode();
+            for (String className : foundClasses.getClassNames())
+            {
+                if (scanModeAnnotated)
+                {
+                    // in this case we need to find out whether we should keep this class in the Archive
+                    AnnotationFinder.ClassInfo classInfo = finder.getClassInfo(className);
+                    if (classInfo == null || !isBeanAnnotatedClass(classInfo))
+                    {
+                        continue;
+                    }
+                }
+                candidates.add(className);
+            }
+            candidatesPerBda.put(bda.getKey(), candidates);
+            allCandidates.addAll(candidates);
+        }
+
+        Set<String> nonBeanClasses = findNonBeanClasses(allCandidates);
+        if (!nonBeanClasses.isEmpty())
+        {
+            for (List<String> candidates : candidatesPerBda.values())
+            {
+                candidates.removeAll(nonBeanClasses);
+            }
+        }
+        return candidatesPerBda;
+    }
+
+    private BeanArchiveService.BeanArchiveInformation getBeanArchiveInformation(String bdaUrl)
+    {
+        if (archive != null)
+        {
+            return archive.classesByUrl().get(bdaUrl).getBeanArchiveInfo();
+        }
+
+        // restored from a snapshot, the bean archives didn't get scanned
+        if (beanArchiveService == null)
+        {
+            beanArchiveService = webBeansContext().getBeanArchiveService();
+        }
+        try
+        {
+            return beanArchiveService.getBeanArchiveInformation(new URL(bdaUrl));
+        }
+        catch (MalformedURLException e)
+        {
+            throw new WebBeansDeploymentException(e);
+        }
+    }
+
+    /**
+     * @return the scan result of a previous boot if the bean archives did not change since then
+     * @see OpenWebBeansConfiguration#SCAN_SNAPSHOT_FILE
+     */
+    private ScanSnapshot loadScanSnapshot() throws IOException
+    {
+        OpenWebBeansConfiguration owbConfiguration = webBeansContext().getOpenWebBeansConfiguration();
+        File snapshotFile = owbConfiguration.getScanSnapshotFile();
+        if (snapshotFile == null || getAdditionalArchive() != null)
+        {
+            // classes added programmatically can't get fingerprinted
+            return null;
+        }
+
+        Filter userFilter = webBeansContext().getService(Filter.class);
+        List<String> settings = new ArrayList<>();
+        settings.add(owbConfiguration.getProperty(OpenWebBeansConfiguration.SCAN_EXCLUSION_PATHS));
+        settings.add(owbConfiguration.getProperty(OpenWebBeansConfiguration.SCAN_ONLY_BEANS_XML_JARS));
+        settings.add(String.valueOf(owbConfiguration.skipNonBeanClasses()));
+        settings.add(userFilter == null ? null : userFilter.getClass().getName());
+        settings.add(String.valueOf(owbConfiguration.useBeanArchiveIndex()));
+
+        // a snapshot written by another OWB version or with other Extensions must not get used
+        Package owbPackage = WebBeansContext.class.getPackage();
+        settings.add(owbPackage == null ? null : owbPackage.getImplementationVersion());
+        CodeSource owbCode = WebBeansContext.class.getProtectionDomain().getCodeSource();
+        settings.add(owbCode == null ? null : String.valueOf(owbCode.getLocation()));
+        settings.addAll(getExtensionServices(WebBeansUtil.getCurrentClassLoader()));
+
+        scanFingerprint = ScanSnapshot.fingerprint(getBeanDeploymentUrls(), settings);
+        if (scanFingerprint == null)
+        {
+            logger.info("Not using the scan snapshot as not all bean archives are in the file system");
+            return null;
+        }
+
+        ScanSnapshot snapshot;
+        try
+        {
+            snapshot = ScanSnapshot.read(snapshotFile);
+        }
+        catch (IOException e)
+        {
+            logger.log(Level.WARNING, "Ignoring unreadable scan snapshot " + snapshotFile, e);
+            return null;
+        }
+
+        if (snapshot == null || !scanFingerprint.equals(snapshot.getFingerprint()))
+        {
+            if (logger.isLoggable(Level.FINE))
+            {
+                logger.fine("Bean archives changed, scan snapshot " + snapshotFile + " needs to get rebuilt");
+            }
+            return null;
+        }
+
+        logger.info("Using the scan snapshot " + snapshotFile + " instead of scanning the bean archives");
+        return snapshot;
+    }
+
+    /**
+     * @return the location and content of all ServiceLoader files which register CDI Extensions
+     */
+    private static List<String> getExtensionServices(ClassLoader classLoader) throws IOException
+    {
+        List<String> extensions = new ArrayList<>();
+        Enumeration<URL> services = classLoader.getResources("META-INF/services/" + Extension.class.getName());
+        while (services.hasMoreElements())
+        {
+            URL service = services.nextElement();
+            StringBuilder content = new StringBuilder(service.toExternalForm()).append('=');
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(service.openStream(), StandardCharsets.UTF_8)))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    content.append(line.trim()).append(';');
+                }
+            }
+            extensions.add(content.toString());
+        }
+        return extensions;
+    }
+
+    /**
+     * Sort out classes which cannot become a bean by only looking at their bytecode.
+     * Those classes then don't need to get loaded at all.
+     *
+     * @return the names of the classes which cannot be a bean
+     * @see OpenWebBeansConfiguration#SKIP_NON_BEAN_CLASSES
+     */
+    private Set<String> findNonBeanClasses(List<String> classNames)
+    {
+        if (!webBeansContext().getOpenWebBeansConfiguration().skipNonBeanClasses())
+        {
+            return Collections.emptySet();
+        }
+
+        int parallelism = webBeansContext().getOpenWebBeansConfiguration().getBootParallelism();
+        ClassLoader classLoader = WebBeansUtil.getCurrentClassLoader();
+
+        // EE components in vetoed classes still need to get injected, so they have to get loaded
+        boolean keepVetoed = webBeansContext().getPluginLoader().getJavaEEPlugin() != null;
+        BeanCandidateFilter filter = new BeanCandidateFilter(classLoader, keepVetoed);
+        Map<String, List<String>> indexedClasses = archive.indexedClasses();
+
+        Set<String> nonBeanClasses = ConcurrentHashMap.newKeySet();
+        ParallelUtil.map(parallelism, chunks(classNames, parallelism), chunk ->
+        {
+            for (String className : chunk)
+            {
+                List<String> indexedAnnotations = indexedClasses.get(className);
+                if (indexedAnnotations != null)
+                {
+                    // the index already tells the class level annotations, no need to read the class file
+                    if (!filter.isCandidate(className, indexedAnnotations))
+                    {
+                        nonBeanClasses.add(className);
+                    }
+                    continue;
+                }
+
+                try (InputStream bytecode = classLoader.getResourceAsStream(className.replace('.', '/') + ".class"))
+                {
+                    if (bytecode != null && !filter.isCandidate(bytecode))
+                    {
+                        nonBeanClasses.add(className);
+                    }
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    // keep the class, the reflection based checks will decide
+                }
+            }
+            return chunk;
+        });
+
+        if (logger.isLoggable(Level.FINE))
+        {
+            logger.fine("Skipped loading " + nonBeanClasses.size() + " of " + classNames.size() + " classes which cannot be beans");
+        }
+        return nonBeanClasses;
+    }
+
+    /**
+     * Load and link the given classes on multiple threads.
+     * The classes don't get initialized here, this still happens in the original order
+     * in {@link #getBeanClassesPerBda()}. Static initializers of different classes depending on
+     * each other therefore cannot dead lock.
+     * Any failure gets ignored here as it will show up again when loading the class for real.
+     */
+    private void preloadClasses(List<String> classNames)
+    {
+        int parallelism = webBeansContext().getOpenWebBeansConfiguration().getBootParallelism();
+        if (parallelism <= 1 || classNames.size() < 2)
+        {
+            return;
+        }
+
+        ClassLoader classLoader = WebBeansUtil.getCurrentClassLoader();
+        ParallelUtil.map(parallelism, chunks(classNames, parallelism), chunk ->
+        {
+            for (String className : chunk)
+            {
+                try
+                {
+                    Class.forName(className, false, classLoader).getDeclaredFields();
+                }
+                catch (ClassNotFoundException | LinkageError | RuntimeException e)
+                {
+                    // will get reported by the sequential loading
+                }
+            }
+            return chunk;
+        });
+    }
+
+    /**
+     * Split the class names into a few chunks per thread, a task per class would cost more than it saves.
+     */
+    private static List<List<String>> chunks(List<String> classNames, int parallelism)
+    {
+        int chunkSize = Math.max(1, classNames.size() / (Math.max(1, parallelism) * 4));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < classNames.size(); i += chunkSize)
+        {
+            chunks.add(classNames.subList(i, Math.min(classNames.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+
     private boolean isAnonymous(final String className)
     {
         final int start = className.lastIndexOf('$');
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner;
+
+import static org.apache.xbean.asm7.ClassReader.SKIP_CODE;
+import static org.apache.xbean.asm7.ClassReader.SKIP_DEBUG;
+import static org.apache.xbean.asm7.ClassReader.SKIP_FRAMES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.xbean.asm7.AnnotationVisitor;
+import org.apache.xbean.asm7.ClassReader;
+import org.apache.xbean.asm7.ClassVisitor;
+import org.apache.xbean.asm7.MethodVisitor;
+import org.apache.xbean.asm7.Opcodes;
+
+/**
+ * Decides based on the class file only whether a scanned class can become a bean at all.
+ * Classes which cannot be a bean don't need to get loaded.
+ *
+ * <p>A class gets rejected if it is</p>
+ * <ul>
+ *     <li>annotated with &#064;Vetoed or in a package (or parent package) annotated with &#064;Vetoed</li>
+ *     <li>an interface or abstract class which is not a decorator</li>
+ *     <li>a non static inner class</li>
+ *     <li>without a no-arg constructor and without an &#064;Inject constructor</li>
+ * </ul>
+ *
+ * <p>Annotation types are always kept. All methods are thread safe.</p>
+ *
+ * <p>Classes from a {@link org.apache.webbeans.corespi.scanner.index.BeanArchiveIndex} only get checked
+ * for vetoes, as the index only contains the class level annotations.</p>
+ *
+ * @see org.apache.webbeans.config.OpenWebBeansConfiguration#SKIP_NON_BEAN_CLASSES
+ */
+final class BeanCandidateFilter
+{
+    private static final String VETOED = "Ljavax/enterprise/inject/Vetoed;";
+    private static final String VETOED_CLASS = "javax.enterprise.inject.Vetoed";
+    private static final String DECORATOR = "Ljavax/decorator/Decorator;";
+    private static final String INJECT = "Ljavax/inject/Inject;";
+    private static final String CONSTRUCTOR = "<init>";
+    private static final String NO_ARG = "()V";
+    private static final int PARSING_OPTIONS = SKIP_CODE + SKIP_DEBUG + SKIP_FRAMES;
+
+    private final ClassLoader loader;
+
+    /**
+     * whether vetoed classes must still get loaded, e.g. because EE components in them need injection
+     */
+    private final boolean keepVetoed;
+
+    /**
+     * key: package name, value: whether this package or one of its parents is vetoed
+     */
+    private final ConcurrentMap<String, Boolean> packageVetoes = new ConcurrentHashMap<>();
+
+    BeanCandidateFilter(ClassLoader loader, boolean keepVetoed)
+    {
+        this.loader = loader;
+        this.keepVetoed = keepVetoed;
+    }
+
+    /**
+     * @param bytecode the class file, will not get closed
+     * @return {@code false} if the class can't become a bean
+     */
+    boolean isCandidate(InputStream bytecode) throws IOException
+    {
+        ClassInfoVisitor classInfo = new ClassInfoVisitor();
+        new ClassReader(bytecode).accept(classInfo, PARSING_OPTIONS);
+
+        if ((classInfo.access & Opcodes.ACC_ANNOTATION) != 0)
+        {
+            return true;
+        }
+        if (!keepVetoed && (classInfo.vetoed || isPackageVetoed(packageOf(classInfo.name))))
+        {
+            return false;
+        }
+        if ((classInfo.access & Opcodes.ACC_ABSTRACT) != 0 && !classInfo.decorator)
+        {
+            return false;
+        }
+        if (classInfo.nonStaticInner)
+        {
+            return false;
+        }
+        return classInfo.suitableConstructor;
+    }
+
+    /**
+     * Decide based on the data of a bean archive index without reading the class file.
+     *
+     * @param className the class name, e.g. org.acme.Foo
+     * @param annotationNames the class level annotation names from the index
+     * @return {@code false} if the class can't become a bean
+     */
+    boolean isCandidate(String className, Collection<String> annotationNames)
+    {
+        if (keepVetoed)
+        {
+            return true;
+        }
+        return !annotationNames.contains(VETOED_CLASS) && !isPackageVetoed(packageOf(className.replace('.', '/')));
+    }
+
+    private boolean isPackageVetoed(String packageName)
+    {
+        if (packageName.isEmpty())
+        {
+            return false;
+        }
+
+        Boolean vetoed = packageVetoes.get(packageName);
+        if (vetoed == null)
+        {
+            vetoed = readPackageVeto(packageName) || isPackageVetoed(packageOf(packageName));
+            packageVetoes.putIfAbsent(packageName, vetoed);
+        }
+        return vetoed;
+    }
+
+    private boolean readPackageVeto(String packageName)
+    {
+        try (InputStream packageInfo = loader.getResourceAsStream(packageName + "/package-info.class"))
+        {
+            if (packageInfo == null)
+            {
+                return false;
+            }
+            ClassInfoVisitor classInfo = new ClassInfoVisitor();
+            new ClassReader(packageInfo).accept(classInfo, PARSING_OPTIONS);
+            return classInfo.vetoed;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // let the reflection based check decide later on
+            return false;
+        }
+    }
+
+    /**
+     * @param internalName e.g. org/acme/Foo
+     * @return the internal package name, e.g. org/acme
+     */
+    private static String packageOf(String internalName)
+    {
+        int idx = internalName.lastIndexOf('/');
+        return idx > 0 ? internalName.substring(0, idx) : "";
+    }
+
+    private static final class ClassInfoVisitor extends ClassVisitor
+    {
+        private String name = "";
+        private int access;
+        private boolean vetoed;
+        private boolean decorator;
+        private boolean nonStaticInner;
+        private boolean suitableConstructor;
+
+        private ClassInfoVisitor()
+        {
+            super(Opcodes.ASM7);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces)
+        {
+            this.access = access;
+            this.name = name;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible)
+        {
+            if (VETOED.equals(descriptor))
+            {
+                vetoed = true;
+            }
+            else if (DECORATOR.equals(descriptor))
+            {
+                decorator = true;
+            }
+            return null;
+        }
+
+        @Override
+        public void visitInnerClass(String innerName, String outerName, String simpleName, int innerAccess)
+        {
+            // the InnerClasses attribute also lists the class itself if it is nested
+            if (name.equals(innerName) && (innerAccess & Opcodes.ACC_STATIC) == 0)
+            {
+                nonStaticInner = true;
+            }
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int methodAccess, String methodName, String descriptor, String signature, String[] exceptions)
+        {
+            if (!CONSTRUCTOR.equals(methodName) || suitableConstructor)
+            {
+                return null;
+            }
+            if (NO_ARG.equals(descriptor))
+            {
+                suitableConstructor = true;
+                return null;
+            }
+            return new MethodVisitor(Opcodes.ASM7)
+            {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible)
+                {
+                    if (INJECT.equals(annotationDescriptor))
+                    {
+                        suitableConstructor = true;
+                    }
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The result of scanning all bean archives: the bean candidate class names per bean archive.
+ *
+ * <p>It gets stored after a successful boot together with a fingerprint of the scanned
+ * classpath entries and the scanning configuration. If the next boot sees the same
+ * fingerprint the classes don't need to get scanned again.</p>
+ *
+ * @see org.apache.webbeans.config.OpenWebBeansConfiguration#SCAN_SNAPSHOT_FILE
+ */
+final class ScanSnapshot
+{
+    /** 'OWSS' */
+    private static final int MAGIC = 0x4F575353;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String fingerprint;
+
+    /**
+     * key: URL#toExternalForm of the bean archive, value: the bean candidate class names
+     */
+    private final Map<String, List<String>> classNamesPerArchive;
+
+    ScanSnapshot(String fingerprint, Map<String, List<String>> classNamesPerArchive)
+    {
+        this.fingerprint = fingerprint;
+        this.classNamesPerArchive = Collections.unmodifiableMap(new LinkedHashMap<>(classNamesPerArchive));
+    }
+
+    String getFingerprint()
+    {
+        return fingerprint;
+    }
+
+    Map<String, List<String>> getClassNamesPerArchive()
+    {
+        return classNamesPerArchive;
+    }
+
+    /**
+     * Write the snapshot to a temporary file first, so a concurrently booting
+     * container never sees a half written snapshot.
+     */
+    void write(File file) throws IOException
+    {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs())
+        {
+            throw new IOException("Cannot create directory " + parent);
+        }
+
+        File tmp = File.createTempFile(file.getName(), ".tmp", parent);
+        try
+        {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+            {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(classNamesPerArchive.size());
+                for (Map.Entry<String, List<String>> archive : classNamesPerArchive.entrySet())
+                {
+                    out.writeUTF(archive.getKey());
+                    out.writeInt(archive.getValue().size());
+                    for (String className : archive.getValue())
+                    {
+                        out.writeUTF(className);
+                    }
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally
+        {
+            Files.deleteIfExists(tmp.toPath());
+        }
+    }
+
+    /**
+     * @return the snapshot or {@code null} if the file doesn't exist
+     * @throws IOException if the file exists but is no valid snapshot
+     */
+    static ScanSnapshot read(File file) throws IOException
+    {
+        if (!file.isFile())
+        {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if (in.readInt() != MAGIC)
+            {
+                throw new IOException("Not an OpenWebBeans scan snapshot: " + file);
+            }
+            int version = in.readUnsignedShort();
+            if (version != FORMAT_VERSION)
+            {
+                throw new IOException("Unsupported scan snapshot version " + version);
+            }
+
+            String fingerprint = in.readUTF();
+            int archiveCount = in.readInt();
+            Map<String, List<String>> classNamesPerArchive = new LinkedHashMap<>();
+            for (int i = 0; i < archiveCount; i++)
+            {
+                String archive = in.readUTF();
+                int classCount = in.readInt();
+                List<String> classNames = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++)
+                {
+                    classNames.add(in.readUTF());
+                }
+                classNamesPerArchive.put(archive, classNames);
+            }
+            return new ScanSnapshot(fingerprint, classNamesPerArchive);
+        }
+    }
+
+    /**
+     * Calculate a fingerprint of the given bean archives based on their file sizes and modification times.
+     * Directories get walked, jars only get checked themselves.
+     *
+     * @param beanDeploymentUrls key: beans.xml location or archive URL, value: the classpath entry
+     * @param settings all configuration values which influence the scanning result
+     * @return the fingerprint or {@code null} if an archive is not in the local file system
+     */
+    static String fingerprint(Map<String, URL> beanDeploymentUrls, List<String> settings) throws IOException
+    {
+        StringBuilder content = new StringBuilder();
+        for (String setting : settings)
+        {
+            content.append(setting).append('\n');
+        }
+
+        for (Map.Entry<String, URL> deployment : new TreeMap<>(beanDeploymentUrls).entrySet())
+        {
+            Path archive = toPath(deployment.getValue());
+            if (archive == null)
+            {
+                return null;
+            }
+            content.append(deployment.getKey()).append('=').append(fileState(archive)).append('\n');
+
+            // e.g. a WEB-INF/beans.xml which is not part of WEB-INF/classes
+            if (deployment.getKey().startsWith("file:"))
+            {
+                Path beansXml = toPath(new URL(deployment.getKey()));
+                if (beansXml != null && !beansXml.startsWith(archive))
+                {
+                    content.append(fileState(beansXml)).append('\n');
+                }
+            }
+        }
+
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
+            {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path toPath(URL url)
+    {
+        if (!"file".equals(url.getProtocol()))
+        {
+            return null;
+        }
+        try
+        {
+            return Paths.get(url.toURI());
+        }
+        catch (URISyntaxException | IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+
+    private static String fileState(Path path) throws IOException
+    {
+        if (!Files.exists(path))
+        {
+            return "missing";
+        }
+        if (!Files.isDirectory(path))
+        {
+            return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        }
+
+        long[] state = new long[3]; // files, bytes, last modification
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+            {
+                // renaming or deleting a file only touches the directory
+                state[2] = Math.max(state[2], attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+            {
+                state[0]++;
+                state[1] += attrs.size();
+                state[2] = Math.max(state[2], attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return state[0] + ":" + state[1] + ":" + state[2];
+    }
+}
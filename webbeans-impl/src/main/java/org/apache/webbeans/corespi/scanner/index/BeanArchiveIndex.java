@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner.index;
+
+import org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
+import org.apache.xbean.finder.util.Files;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * A build time index of a single bean archive.
+ *
+ * <p>It contains the bean discovery mode the archive got indexed with and all
+ * bean candidate classes together with the names of their class level annotations.
+ * For archives with bean-discovery-mode 'annotated' only classes with at least one
+ * annotation are listed, as all others cannot become a bean anyway.</p>
+ *
+ * <p>The index gets stored as {@link #INDEX_LOCATION} inside the archive and allows
+ * the scanner to skip reading the bytecode of all classes.</p>
+ *
+ * @see BeanArchiveIndexer
+ */
+public final class BeanArchiveIndex
+{
+    public static final String INDEX_LOCATION = "META-INF/openwebbeans/index.bin";
+
+    /** 'OWBI' */
+    private static final int MAGIC = 0x4F574249;
+    private static final int FORMAT_VERSION = 1;
+
+    private final BeanDiscoveryMode beanDiscoveryMode;
+
+    /**
+     * key: class name, value: class level annotation names
+     */
+    private final Map<String, List<String>> classAnnotations;
+
+    public BeanArchiveIndex(BeanDiscoveryMode beanDiscoveryMode, Map<String, List<String>> classAnnotations)
+    {
+        this.beanDiscoveryMode = beanDiscoveryMode;
+        this.classAnnotations = Collections.unmodifiableMap(new LinkedHashMap<>(classAnnotations));
+    }
+
+    /**
+     * @return the bean discovery mode of the archive at the time it got indexed
+     */
+    public BeanDiscoveryMode getBeanDiscoveryMode()
+    {
+        return beanDiscoveryMode;
+    }
+
+    /**
+     * @return all indexed class names with their class level annotation names
+     */
+    public Map<String, List<String>> getClassAnnotations()
+    {
+        return classAnnotations;
+    }
+
+    public void write(OutputStream os) throws IOException
+    {
+        // annotation names are shared by many classes, so we write them only once
+        List<String> annotationNames = new ArrayList<>();
+        Map<String, Integer> annotationIds = new HashMap<>();
+        for (List<String> annotations : classAnnotations.values())
+        {
+            for (String annotation : annotations)
+            {
+                if (!annotationIds.containsKey(annotation))
+                {
+                    annotationIds.put(annotation, annotationNames.size());
+                    annotationNames.add(annotation);
+                }
+            }
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(beanDiscoveryMode.name());
+
+        out.writeInt(annotationNames.size());
+        for (String annotationName : annotationNames)
+        {
+            out.writeUTF(annotationName);
+        }
+
+        out.writeInt(classAnnotations.size());
+        for (Map.Entry<String, List<String>> entry : classAnnotations.entrySet())
+        {
+            out.writeUTF(entry.getKey());
+            out.writeShort(entry.getValue().size());
+            for (String annotation : entry.getValue())
+            {
+                out.writeInt(annotationIds.get(annotation));
+            }
+        }
+        out.flush();
+    }
+
+    public static BeanArchiveIndex read(InputStream is) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        if (in.readInt() != MAGIC)
+        {
+            throw new IOException("Not an OpenWebBeans bean archive index");
+        }
+        int version = in.readUnsignedShort();
+        if (version != FORMAT_VERSION)
+        {
+            throw new IOException("Unsupported bean archive index version " + version);
+        }
+
+        BeanDiscoveryMode beanDiscoveryMode;
+        try
+        {
+            beanDiscoveryMode = BeanDiscoveryMode.valueOf(in.readUTF());
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IOException("Unknown bean-discovery-mode in bean archive index", e);
+        }
+
+        String[] annotationNames = new String[in.readInt()];
+        for (int i = 0; i < annotationNames.length; i++)
+        {
+            annotationNames[i] = in.readUTF();
+        }
+
+        int classCount = in.readInt();
+        Map<String, List<String>> classAnnotations = new LinkedHashMap<>(Math.max(16, classCount * 4 / 3 + 1));
+        for (int i = 0; i < classCount; i++)
+        {
+            String className = in.readUTF();
+            int annotationCount = in.readUnsignedShort();
+            List<String> annotations;
+            if (annotationCount == 0)
+            {
+                annotations = Collections.emptyList();
+            }
+            else
+            {
+                annotations = new ArrayList<>(annotationCount);
+                for (int j = 0; j < annotationCount; j++)
+                {
+                    annotations.add(annotationNames[in.readInt()]);
+                }
+            }
+            classAnnotations.put(className, annotations);
+        }
+
+        return new BeanArchiveIndex(beanDiscoveryMode, classAnnotations);
+    }
+
+    /**
+     * Whether a class, a beans.xml or a directory (e.g. because a class got deleted)
+     * in the given classes directory got modified after the index got written.
+     */
+    private static boolean isModifiedAfter(File directory, long indexTimestamp)
+    {
+        if (directory.lastModified() > indexTimestamp)
+        {
+            return true;
+        }
+
+        File[] children = directory.listFiles();
+        if (children == null)
+        {
+            return false;
+        }
+        for (File child : children)
+        {
+            if (child.isDirectory())
+            {
+                if (isModifiedAfter(child, indexTimestamp))
+                {
+                    return true;
+                }
+            }
+            else if ((child.getName().endsWith(".class") || child.getName().equals("beans.xml"))
+                    && child.lastModified() > indexTimestamp)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the index of the given classpath entry.
+     *
+     * @param archiveUrl the root of a classpath entry, e.g. a jar file or a classes directory
+     * @return the index or {@code null} if the archive doesn't contain one.
+     *         For a classes directory also if anything in it got changed after the index got written.
+     * @throws IOException if the index exists but cannot be read
+     */
+    public static BeanArchiveIndex load(URL archiveUrl) throws IOException
+    {
+        String externalForm = archiveUrl.toExternalForm();
+        if ("file".equals(archiveUrl.getProtocol()))
+        {
+            File file = Files.toFile(archiveUrl);
+            if (file.isDirectory())
+            {
+                File indexFile = new File(file, INDEX_LOCATION);
+                if (!indexFile.isFile() || isModifiedAfter(file, indexFile.lastModified()))
+                {
+                    // e.g. the classes got recompiled by an IDE without indexing them again
+                    return null;
+                }
+                try (InputStream in = new FileInputStream(indexFile))
+                {
+                    return read(in);
+                }
+            }
+            if (!file.isFile())
+            {
+                return null;
+            }
+            try (JarFile jarFile = new JarFile(file))
+            {
+                ZipEntry entry = jarFile.getEntry(INDEX_LOCATION);
+                if (entry == null)
+                {
+                    return null;
+                }
+                try (InputStream in = jarFile.getInputStream(entry))
+                {
+                    return read(in);
+                }
+            }
+        }
+
+        if (!externalForm.endsWith("/"))
+        {
+            // we don't know how to resolve resources relative to this kind of URL
+            return null;
+        }
+
+        try
+        {
+            URLConnection connection = new URL(archiveUrl, INDEX_LOCATION).openConnection();
+            connection.setUseCaches(false);
+            try (InputStream in = connection.getInputStream())
+            {
+                return read(in);
+            }
+        }
+        catch (FileNotFoundException e)
+        {
+            return null;
+        }
+    }
+}
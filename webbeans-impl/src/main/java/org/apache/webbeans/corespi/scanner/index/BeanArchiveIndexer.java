@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner.index;
+
+import org.apache.webbeans.corespi.scanner.AbstractMetaDataDiscovery;
+import org.apache.webbeans.corespi.scanner.xbean.OwbAnnotationFinder;
+import org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
+import org.apache.webbeans.xml.DefaultBeanArchiveService;
+import org.apache.xbean.finder.AnnotationFinder;
+import org.apache.xbean.finder.archive.Archive;
+import org.apache.xbean.finder.archive.FileArchive;
+import org.apache.xbean.finder.archive.JarArchive;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Creates the {@link BeanArchiveIndex} of a classes directory or jar at build time.
+ *
+ * <p>This is used by the openwebbeans-maven and openwebbeans-gradle build integration
+ * but can also be invoked directly:</p>
+ * <pre>java org.apache.webbeans.corespi.scanner.index.BeanArchiveIndexer &lt;classes-dir or jar&gt;...</pre>
+ */
+public final class BeanArchiveIndexer
+{
+    private BeanArchiveIndexer()
+    {
+        // utility class
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length == 0)
+        {
+            throw new IllegalArgumentException("Usage: BeanArchiveIndexer <classes directory or jar>...");
+        }
+        for (String arg : args)
+        {
+            writeIndex(new File(arg));
+        }
+    }
+
+    /**
+     * Index the given classes directory or jar and store the index inside of it.
+     *
+     * @return the written index
+     */
+    public static BeanArchiveIndex writeIndex(File archive) throws IOException
+    {
+        BeanArchiveIndex index = index(archive);
+        if (archive.isDirectory())
+        {
+            File indexFile = new File(archive, BeanArchiveIndex.INDEX_LOCATION);
+            if (!indexFile.getParentFile().isDirectory() && !indexFile.getParentFile().mkdirs())
+            {
+                throw new IOException("Cannot create " + indexFile.getParentFile());
+            }
+            try (OutputStream out = new FileOutputStream(indexFile))
+            {
+                index.write(out);
+            }
+        }
+        else
+        {
+            addToJar(archive, index);
+        }
+        return index;
+    }
+
+    /**
+     * Scan the bytecode of the given classes directory or jar.
+     */
+    public static BeanArchiveIndex index(File archive) throws IOException
+    {
+        if (!archive.exists())
+        {
+            throw new IOException(archive + " does not exist");
+        }
+
+        URL archiveUrl = archive.toURI().toURL();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{archiveUrl}, BeanArchiveIndexer.class.getClassLoader()))
+        {
+            // evaluate the beans.xml the same way the container does
+            URL beansXml = loader.findResource(AbstractMetaDataDiscovery.META_INF_BEANS_XML);
+            BeanDiscoveryMode beanDiscoveryMode = new DefaultBeanArchiveService()
+                    .getBeanArchiveInformation(beansXml != null ? beansXml : archiveUrl)
+                    .getBeanDiscoveryMode();
+
+            Map<String, List<String>> classAnnotations = new LinkedHashMap<>();
+            if (beanDiscoveryMode != BeanDiscoveryMode.NONE)
+            {
+                Archive classes = archive.isDirectory() ? new FileArchive(loader, archive) : new JarArchive(loader, archiveUrl);
+                OwbAnnotationFinder finder = new OwbAnnotationFinder(classes);
+                for (Archive.Entry entry : classes)
+                {
+                    String className = entry.getName();
+                    List<String> annotations = annotationNames(finder.getClassInfo(className));
+                    if (beanDiscoveryMode == BeanDiscoveryMode.ANNOTATED && annotations.isEmpty())
+                    {
+                        // cannot be a bean in an annotated archive
+                        continue;
+                    }
+                    classAnnotations.put(className, annotations);
+                }
+            }
+
+            return new BeanArchiveIndex(beanDiscoveryMode, classAnnotations);
+        }
+    }
+
+    private static List<String> annotationNames(AnnotationFinder.ClassInfo classInfo)
+    {
+        if (classInfo == null || classInfo.getAnnotations().isEmpty())
+        {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>(classInfo.getAnnotations().size());
+        for (AnnotationFinder.AnnotationInfo annotationInfo : classInfo.getAnnotations())
+        {
+            names.add(annotationInfo.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Rewrite the jar with the index added. An already existing index gets replaced.
+     */
+    private static void addToJar(File jar, BeanArchiveIndex index) throws IOException
+    {
+        File tmp = new File(jar.getParentFile(), jar.getName() + ".owbindex");
+        try (ZipFile zipFile = new ZipFile(jar);
+             ZipOutputStream out = new ZipOutputStream(new FileOutputStream(tmp)))
+        {
+            byte[] buffer = new byte[8192];
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements())
+            {
+                ZipEntry entry = entries.nextElement();
+                if (BeanArchiveIndex.INDEX_LOCATION.equals(entry.getName()))
+                {
+                    continue;
+                }
+                // keep time, method, comment and extras of the entry, only the compressed size may change
+                ZipEntry copy = new ZipEntry(entry);
+                copy.setCompressedSize(-1);
+                out.putNextEntry(copy);
+                try (InputStream in = zipFile.getInputStream(entry))
+                {
+                    int read;
+                    while ((read = in.read(buffer)) >= 0)
+                    {
+                        out.write(buffer, 0, read);
+                    }
+                }
+                out.closeEntry();
+            }
+
+            out.putNextEntry(new ZipEntry(BeanArchiveIndex.INDEX_LOCATION));
+            index.write(out);
+            out.closeEntry();
+        }
+        Files.move(tmp.toPath(), jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
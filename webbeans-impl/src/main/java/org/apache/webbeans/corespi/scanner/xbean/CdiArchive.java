@@ -18,6 +18,8 @@
  */
 package org.apache.webbeans.corespi.scanner.xbean;
 
+import org.apache.webbeans.corespi.scanner.index.BeanArchiveIndex;
+import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.BeanArchiveService.BeanArchiveInformation;
 import org.apache.xbean.finder.archive.Archive;
@@ -31,10 +33,14 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * this delegate pattern is interesting
@@ -44,18 +50,43 @@ import java.util.Map;
  */
 public class CdiArchive implements Archive
 {
+    private static final Logger logger = WebBeansLoggerFacade.getLogger(CdiArchive.class);
+
     /**
      * key: URL#toExternalForm of the scanned classpath entry
      * value: small data container with URL and class names
      */
     private final Map<String, FoundClasses> classesByUrl = new HashMap<>();
 
+    /**
+     * Classes of all archives which got picked up via their {@link BeanArchiveIndex}.
+     * key: class name, value: class level annotation names
+     */
+    private final Map<String, List<String>> indexedClasses = new LinkedHashMap<>();
+
+    /**
+     * the archives of all classpath entries which need to get scanned
+     */
+    private final List<Archive> archives = new ArrayList<>();
+
+    private final ClassLoader loader;
     private final Archive delegate;
 
     public CdiArchive(BeanArchiveService beanArchiveService, ClassLoader loader, Map<String, URL> urls,
                       Filter userFilter, Archive customArchive)
     {
-        Collection<Archive> archives = new ArrayList<>();
+        this(beanArchiveService, loader, urls, userFilter, customArchive, false);
+    }
+
+    /**
+     * @param useIndex whether a {@link BeanArchiveIndex} should be used instead of reading the bytecode
+     *                 of an archive if one is present
+     */
+    public CdiArchive(BeanArchiveService beanArchiveService, ClassLoader loader, Map<String, URL> urls,
+                      Filter userFilter, Archive customArchive, boolean useIndex)
+    {
+        this.loader = loader;
+
         boolean customAdded = false;
         for (URL url : urls.values())
         {
@@ -63,16 +94,20 @@ public class CdiArchive implements Archive
 
             BeanArchiveInformation beanArchiveInfo = beanArchiveService.getBeanArchiveInformation(url);
             final boolean custom = "openwebbeans".equals(url.getProtocol());
-            Archive archive = new FilteredArchive(
-                    custom ? customArchive : ClasspathArchive.archive(loader, url),
-                    new BeanArchiveFilter(beanArchiveInfo, urlClasses, userFilter));
+            BeanArchiveFilter filter = new BeanArchiveFilter(beanArchiveInfo, urlClasses, userFilter);
             if (!customAdded && custom)
             {
                 customAdded = true;
             }
 
             classesByUrl.put(url.toExternalForm(), new FoundClasses(url, urlClasses, beanArchiveInfo));
-            archives.add(archive);
+
+            if (!custom && useIndex && addIndexedClasses(url, beanArchiveInfo, filter))
+            {
+                continue;
+            }
+
+            archives.add(new FilteredArchive(custom ? customArchive : ClasspathArchive.archive(loader, url), filter));
         }
         if (!customAdded && customArchive != null)
         {
@@ -81,21 +116,109 @@ public class CdiArchive implements Archive
         delegate = new CompositeArchive(archives);
     }
 
+    /**
+     * Use the build time index of the given archive if there is one.
+     *
+     * @return {@code true} if all classes of the archive got registered from the index
+     */
+    private boolean addIndexedClasses(URL url, BeanArchiveInformation beanArchiveInfo, BeanArchiveFilter filter)
+    {
+        BeanArchiveIndex index;
+        try
+        {
+            index = BeanArchiveIndex.load(url);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            logger.log(Level.WARNING, "Ignoring unreadable bean archive index of " + url.toExternalForm(), e);
+            return false;
+        }
+
+        if (index == null)
+        {
+            return false;
+        }
+        if (index.getBeanDiscoveryMode() != beanArchiveInfo.getBeanDiscoveryMode())
+        {
+            // e.g. the archive got indexed standalone and gets merged with a WEB-INF/beans.xml now
+            if (logger.isLoggable(Level.FINE))
+            {
+                logger.fine("Ignoring bean archive index of " + url.toExternalForm() + " as it got built for bean-discovery-mode "
+                        + index.getBeanDiscoveryMode() + " but the archive has " + beanArchiveInfo.getBeanDiscoveryMode());
+            }
+            return false;
+        }
+
+        for (Map.Entry<String, List<String>> entry : index.getClassAnnotations().entrySet())
+        {
+            if (filter.accept(entry.getKey()))
+            {
+                indexedClasses.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (logger.isLoggable(Level.FINE))
+        {
+            logger.fine("Using bean archive index of " + url.toExternalForm() + " with " + index.getClassAnnotations().size() + " classes");
+        }
+        return true;
+    }
+
     public Map<String, FoundClasses> classesByUrl()
     {
         return classesByUrl;
     }
 
+    /**
+     * @return the archives of the single classpath entries in scanning order.
+     *         They can get scanned independently from each other.
+     */
+    public List<Archive> getArchives()
+    {
+        return Collections.unmodifiableList(archives);
+    }
+
+    /**
+     * @return all classes which got picked up from a {@link BeanArchiveIndex} with their class level annotation names.
+     *         Those classes are not part of this Archive and must get registered in the finder separately.
+     * @see OwbAnnotationFinder#addIndexedClass(String, Collection)
+     */
+    public Map<String, List<String>> indexedClasses()
+    {
+        return indexedClasses;
+    }
+
     @Override
     public InputStream getBytecode(String className) throws IOException, ClassNotFoundException
     {
-        return delegate.getBytecode(className);
+        try
+        {
+            return delegate.getBytecode(className);
+        }
+        catch (ClassNotFoundException cnfe)
+        {
+            // might be a class from an indexed archive
+            InputStream bytecode = loader.getResourceAsStream(className.replace('.', '/') + ".class");
+            if (bytecode == null)
+            {
+                throw cnfe;
+            }
+            return bytecode;
+        }
     }
 
     @Override
     public Class<?> loadClass(String className) throws ClassNotFoundException
     {
-        return delegate.loadClass(className);
+        try
+        {
+            return delegate.loadClass(className);
+        }
+        catch (ClassNotFoundException cnfe)
+        {
+            // might be a class from an indexed archive
+            return loader.loadClass(className);
+        }
     }
 
     @Override
@@ -21,6 +21,16 @@ package org.apache.webbeans.corespi.scanner.xbean;
 import org.apache.xbean.finder.AnnotationFinder;
 import org.apache.xbean.finder.archive.Archive;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * We just extend the default AnnotationFinder to get Access to the original ClassInfo
  * for not having to call loadClass so often...
@@ -37,9 +47,114 @@ public class OwbAnnotationFinder extends AnnotationFinder
         super(archive);
     }
 
+    /**
+     * Merge the results of finders which scanned parts of the given archive.
+     * If a class is contained in multiple parts the first one wins,
+     * which is the same behaviour as scanning the whole archive.
+     *
+     * @param archive the archive which contains all the parts, used for loading classes
+     * @param partFinders finders of the archive parts in scanning order
+     */
+    public OwbAnnotationFinder(Archive archive, List<OwbAnnotationFinder> partFinders)
+    {
+        super(new UnscannedArchive(archive));
+
+        for (OwbAnnotationFinder partFinder : partFinders)
+        {
+            Set<ClassInfo> shadowed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Map.Entry<String, ClassInfo> classInfo : partFinder.classInfos.entrySet())
+            {
+                if (classInfos.putIfAbsent(classInfo.getKey(), classInfo.getValue()) != null)
+                {
+                    shadowed.add(classInfo.getValue());
+                }
+            }
+            for (Map.Entry<String, List<Info>> annotatedInfos : partFinder.annotated.entrySet())
+            {
+                List<Info> infos = getAnnotationInfos(annotatedInfos.getKey());
+                for (Info info : annotatedInfos.getValue())
+                {
+                    // the class already got contributed by a previous part
+                    if (shadowed.isEmpty() || !shadowed.contains(getOwningClass(info)))
+                    {
+                        infos.add(info);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Info getOwningClass(Info info)
+    {
+        if (info instanceof ParameterInfo)
+        {
+            return getOwningClass(((ParameterInfo) info).getDeclaringMethod());
+        }
+        if (info instanceof MethodInfo)
+        {
+            return ((MethodInfo) info).getDeclaringClass();
+        }
+        if (info instanceof FieldInfo)
+        {
+            return ((FieldInfo) info).getDeclaringClass();
+        }
+        return info;
+    }
+
     public ClassInfo getClassInfo(String className)
     {
         return classInfos.get(className);
     }
 
+    /**
+     * Register a class which got read from a
+     * {@link org.apache.webbeans.corespi.scanner.index.BeanArchiveIndex} instead of its bytecode.
+     * Only the class level annotations are known for such classes.
+     */
+    public void addIndexedClass(String className, Collection<String> annotationNames)
+    {
+        if (classInfos.containsKey(className))
+        {
+            return;
+        }
+
+        ClassInfo classInfo = new ClassInfo(className, null);
+        for (String annotationName : annotationNames)
+        {
+            classInfo.getAnnotations().add(new AnnotationInfo(annotationName));
+            getAnnotationInfos(annotationName).add(classInfo);
+        }
+        classInfos.put(className, classInfo);
+    }
+
+    /**
+     * Exposes the classes of an archive for loading but not for scanning.
+     */
+    private static final class UnscannedArchive implements Archive
+    {
+        private final Archive delegate;
+
+        private UnscannedArchive(Archive delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream getBytecode(String className) throws IOException, ClassNotFoundException
+        {
+            return delegate.getBytecode(className);
+        }
+
+        @Override
+        public Class<?> loadClass(String className) throws ClassNotFoundException
+        {
+            return delegate.loadClass(className);
+        }
+
+        @Override
+        public Iterator<Entry> iterator()
+        {
+            return Collections.<Entry>emptyList().iterator();
+        }
+    }
 }
@@ -41,6 +41,8 @@ import org.apache.webbeans.context.ConversationContext;
 import org.apache.webbeans.context.DependentContext;
 import org.apache.webbeans.context.RequestContext;
 import org.apache.webbeans.context.SessionContext;
+import org.apache.webbeans.context.ThreadContextsSnapshot;
+import org.apache.webbeans.context.ThreadLocalSlots;
 import org.apache.webbeans.conversation.ConversationManager;
 import org.apache.webbeans.intercept.RequestScopedBeanInterceptorHandler;
 import org.apache.webbeans.intercept.SessionScopedBeanInterceptorHandler;
@@ -54,16 +56,20 @@ public abstract class BaseSeContextsService extends AbstractContextsService
 
     private static ThreadLocal<ConversationContext> conversationContext;
 
-    private static ThreadLocal<DependentContext> dependentContext;
+    /**
+     * The DependentContext doesn't hold any state, so all threads can share it
+     */
+    private final DependentContext dependentContext = new DependentContext();
 
     private ApplicationContext applicationContext;
 
     static
     {
-        requestContext = new ThreadLocal<>();
-        sessionContext = new ThreadLocal<>();
-        conversationContext = new ThreadLocal<>();
-        dependentContext = new ThreadLocal<>();
+        // a thread only carries a single ThreadLocal entry for all its contexts
+        ThreadLocalSlots threadContexts = new ThreadLocalSlots(3);
+        requestContext = threadContexts.newSlot();
+        sessionContext = threadContexts.newSlot();
+        conversationContext = threadContexts.newSlot();
     }
 
     protected BaseSeContextsService(final WebBeansContext webBeansContext)
@@ -196,7 +202,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
             requestCtx.destroy();
             RequestScopedBeanInterceptorHandler.removeThreadLocals();
             requestContext.set(null);
-            requestContext.remove();
         }
 
         SessionContext sessionCtx = sessionContext.get();
@@ -205,7 +210,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
             sessionCtx.destroy();
             SessionScopedBeanInterceptorHandler.removeThreadLocals();
             sessionContext.set(null);
-            sessionContext.remove();
         }
 
         ConversationContext conversationCtx = conversationContext.get();
@@ -213,15 +217,40 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         {
             conversationCtx.destroy();
             conversationContext.set(null);
-            conversationContext.remove();
         }
 
-        dependentContext.set(null);
-        dependentContext.remove();
-
         destroyGlobalContexts();
     }
 
+    @Override
+    public Object snapshotContexts()
+    {
+        return ThreadContextsSnapshot.of(requestContext.get(), sessionContext.get(), conversationContext.get());
+    }
+
+    @Override
+    public Object attachContexts(Object snapshot)
+    {
+        ThreadContextsSnapshot contexts = ThreadContextsSnapshot.of(snapshot);
+        Object previous = snapshotContexts();
+        bind(contexts);
+        return previous;
+    }
+
+    @Override
+    public void detachContexts(Object previous)
+    {
+        bind(ThreadContextsSnapshot.of(previous));
+    }
+
+    private void bind(ThreadContextsSnapshot contexts)
+    {
+        requestContext.set(contexts.getRequestContext());
+        sessionContext.set(contexts.getSessionContext());
+        conversationContext.set(contexts.getConversationContext());
+        ThreadContextsSnapshot.clearProxyCaches();
+    }
+
     protected void destroyGlobalContexts()
     {
         if (applicationContext != null)
@@ -262,12 +291,7 @@ public abstract class BaseSeContextsService extends AbstractContextsService
     
     private Context getCurrentDependentContext()
     {        
-        if(dependentContext.get() == null)
-        {
-            dependentContext.set(new DependentContext());
-        }
-        
-        return dependentContext.get();
+        return dependentContext;
     }
 
     
@@ -375,7 +399,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         }
 
         conversationContext.set(null);
-        conversationContext.remove();
     }
 
     
@@ -386,7 +409,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         {
             destroyOutdatedConversations(conversationContext.get());
             conversationContext.set(null);
-            conversationContext.remove();
         }
 
         webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
@@ -397,7 +419,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         }
 
         requestContext.set(null);
-        requestContext.remove();
         RequestScopedBeanInterceptorHandler.removeThreadLocals();
         webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
             new Object(), DestroyedLiteral.INSTANCE_REQUEST_SCOPED);
@@ -414,7 +435,6 @@ public abstract class BaseSeContextsService extends AbstractContextsService
         }
 
         sessionContext.set(null);
-        sessionContext.remove();
         SessionScopedBeanInterceptorHandler.removeThreadLocals();
         webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
             new Object(), DestroyedLiteral.INSTANCE_SESSION_SCOPED);
@@ -64,6 +64,7 @@ import javax.enterprise.inject.spi.ProcessAnnotatedType;
 import javax.enterprise.inject.spi.ProcessProducer;
 
 import org.apache.webbeans.component.AbstractOwbBean;
+import org.apache.webbeans.config.BootProfiler;
 import org.apache.webbeans.config.OWBLogConst;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.exception.WebBeansConfigurationException;
@@ -111,12 +112,25 @@ public final class NotificationManager
                 }
             };
 
+    /**
+     * measures the extension observers while the container boots, {@code null} if boot profiling is disabled
+     */
+    private BootProfiler bootProfiler;
+
     public NotificationManager(WebBeansContext webBeansContext)
     {
         this.webBeansContext = webBeansContext;
         this.defaultNotificationOptions = NotificationOptions.ofExecutor(getDefaultExecutor());
     }
 
+    /**
+     * @param bootProfiler the profiler for extension lifecycle events or {@code null} to stop profiling
+     */
+    public void setBootProfiler(BootProfiler bootProfiler)
+    {
+        this.bootProfiler = bootProfiler;
+    }
+
     private Executor getDefaultExecutor()
     {
         // here it would be nice to support to use a produced bean like @Named("openwebbeansCdiExecutor")
@@ -709,6 +723,12 @@ public final class NotificationManager
                     {
                         completableFutures.add(invokeObserverMethodAsync(event, metadata, observer, notificationOptions));
                     }
+                    else if (isLifecycleEvent && bootProfiler != null)
+                    {
+                        long start = System.nanoTime();
+                        invokeObserverMethod(event, metadata, observer);
+                        bootProfiler.observer(observer.getBeanClass(), observer.getObservedType().getTypeName(), System.nanoTime() - start);
+                    }
                     else
                     {
                         invokeObserverMethod(event, metadata, observer);
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.intercept;
+
+import org.apache.webbeans.intercept.InterceptorResolutionService.BeanInterceptorInfo;
+import org.apache.webbeans.intercept.InterceptorResolutionService.BusinessMethodInterceptorInfo;
+import org.apache.webbeans.util.ExceptionUtil;
+
+import javax.enterprise.inject.spi.Decorator;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The decorator dispatch table of all decorated methods of a proxy class.
+ * For each method and each position in the decorator stack it holds the index
+ * of the next decorator which decorates the method, so the {@link DecoratorHandler}
+ * can dispatch a call without any Map lookup or iteration over the decorators.
+ *
+ * The decorating methods and the target methods get resolved into
+ * {@link MethodHandle}s once when the table gets built.
+ *
+ * Instances are immutable and get shared between all handlers of a bean.
+ */
+public final class DecoratorChains
+{
+    /**
+     * The call must be passed to the target instance.
+     */
+    public static final int TARGET = -1;
+
+    /**
+     * The method is not part of this table.
+     */
+    public static final int UNKNOWN = -2;
+
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final List<Decorator<?>> decorators;
+    private final Method[] methods;
+
+    /**
+     * [methodIndex][position] the index of the decorator to call or {@link #TARGET}
+     */
+    private final int[][] nextDecorators;
+
+    /**
+     * [methodIndex][decoratorIndex] the decorating method or {@code null}
+     */
+    private final Dispatcher[][] decoratingMethods;
+
+    /**
+     * [methodIndex] the method of the decorated instance
+     */
+    private final Dispatcher[] targetMethods;
+
+    /**
+     * @param methods the intercepted methods in the order they got passed to the proxy factory
+     * @param interceptorInfo the interceptor info of the bean
+     * @param decorators the decorators in the order they get applied
+     */
+    public DecoratorChains(Method[] methods, BeanInterceptorInfo interceptorInfo, List<Decorator<?>> decorators)
+    {
+        this.decorators = decorators;
+        this.methods = methods.clone();
+
+        Map<Method, BusinessMethodInterceptorInfo> businessMethodsInfo = interceptorInfo.getBusinessMethodsInfo();
+        int decoratorCount = decorators.size();
+        nextDecorators = new int[methods.length][];
+        decoratingMethods = new Dispatcher[methods.length][];
+        targetMethods = new Dispatcher[methods.length];
+        for (int m = 0; m < methods.length; m++)
+        {
+            BusinessMethodInterceptorInfo methodInfo = businessMethodsInfo.get(methods[m]);
+            Map<Decorator<?>, Method> methodDecorators = methodInfo != null ? methodInfo.getMethodDecorators() : null;
+
+            Dispatcher[] dispatchers = new Dispatcher[decoratorCount];
+            int[] next = new int[decoratorCount];
+            int nextDecorator = TARGET;
+            for (int d = decoratorCount - 1; d >= 0; d--)
+            {
+                Method decoratingMethod = methodDecorators != null ? methodDecorators.get(decorators.get(d)) : null;
+                if (decoratingMethod != null)
+                {
+                    dispatchers[d] = new Dispatcher(decoratingMethod);
+                    nextDecorator = d;
+                }
+                next[d] = nextDecorator;
+            }
+
+            nextDecorators[m] = next;
+            decoratingMethods[m] = dispatchers;
+            targetMethods[m] = new Dispatcher(methods[m]);
+        }
+    }
+
+    /**
+     * @return whether this table got built for exactly the given decorators
+     */
+    public boolean isFor(List<Decorator<?>> decoratorList)
+    {
+        return decorators == decoratorList || decorators.equals(decoratorList);
+    }
+
+    /**
+     * @param methodIndex the index of the method in the proxy class
+     * @param method the invoked method
+     * @param position the position of the handler in the decorator stack
+     * @return the index of the decorator to invoke, {@link #TARGET} or {@link #UNKNOWN}
+     */
+    public int nextDecorator(int methodIndex, Method method, int position)
+    {
+        if (methodIndex >= 0 && methodIndex < methods.length && methods[methodIndex] == method)
+        {
+            int[] next = nextDecorators[methodIndex];
+            return position < next.length ? next[position] : TARGET;
+        }
+        return UNKNOWN;
+    }
+
+    public Object invokeDecorator(int methodIndex, int decoratorIndex, Object decoratorInstance, Object[] args)
+    {
+        return decoratingMethods[methodIndex][decoratorIndex].invoke(decoratorInstance, args);
+    }
+
+    public Object invokeTarget(int methodIndex, Object target, Object[] args)
+    {
+        return targetMethods[methodIndex].invoke(target, args);
+    }
+
+    /**
+     * Invokes a method with an Object[] of arguments.
+     * Uses a spreading {@link MethodHandle} and falls back to reflection
+     * if the method cannot be unreflected.
+     */
+    private static final class Dispatcher
+    {
+        private final Method method;
+        private final MethodHandle handle;
+
+        private Dispatcher(Method method)
+        {
+            if (!method.isAccessible())
+            {
+                method.setAccessible(true);
+            }
+            this.method = method;
+
+            MethodHandle mh;
+            try
+            {
+                mh = MethodHandles.lookup().unreflect(method)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(DISPATCH_TYPE);
+            }
+            catch (IllegalAccessException | RuntimeException e)
+            {
+                mh = null;
+            }
+            handle = mh;
+        }
+
+        private Object invoke(Object instance, Object[] args)
+        {
+            try
+            {
+                if (handle == null)
+                {
+                    return method.invoke(instance, args);
+                }
+                return handle.invokeExact(instance, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw ExceptionUtil.throwAsRuntimeException(e.getTargetException());
+            }
+            catch (Throwable t)
+            {
+                throw ExceptionUtil.throwAsRuntimeException(t);
+            }
+        }
+    }
+}
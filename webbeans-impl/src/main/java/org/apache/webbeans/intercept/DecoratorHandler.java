@@ -59,7 +59,23 @@ public class DecoratorHandler implements InterceptorHandler, Externalizable
     private Object target;
     private String passivationId;
 
+    /**
+     * dispatch table of the bean or {@code null} if we need to resolve the decorators per call
+     */
+    private DecoratorChains decoratorChains;
+
+    /**
+     * the decorator instances indexed like {@link #decorators}
+     */
+    private Object[] decoratorInstances;
+
     public DecoratorHandler(BeanInterceptorInfo interceptorInfo, List<Decorator<?>> decorators, Map<Decorator<?>, ?> instances, int index, Object target, String passivationId)
+    {
+        this(interceptorInfo, decorators, instances, index, target, null, passivationId);
+    }
+
+    public DecoratorHandler(BeanInterceptorInfo interceptorInfo, List<Decorator<?>> decorators, Map<Decorator<?>, ?> instances, int index, Object target,
+                            DecoratorChains decoratorChains, String passivationId)
     {
         this.interceptorInfo = interceptorInfo;
         this.instances = instances;
@@ -67,6 +83,7 @@ public class DecoratorHandler implements InterceptorHandler, Externalizable
         this.index = index;
         this.target = target;
         this.passivationId = passivationId;
+        initDecoratorChains(decoratorChains);
     }
 
     public DecoratorHandler()
@@ -74,6 +91,28 @@ public class DecoratorHandler implements InterceptorHandler, Externalizable
         // no-op: for serialization
     }
 
+    /**
+     * Dispatches the call via the {@link DecoratorChains} and only falls back to
+     * {@link #invoke(Method, Object[])} if the method is not part of the table.
+     */
+    @Override
+    public Object invoke(int methodIndex, Method method, Object[] args)
+    {
+        if (decoratorChains != null)
+        {
+            int decoratorIndex = decoratorChains.nextDecorator(methodIndex, method, index);
+            if (decoratorIndex >= 0)
+            {
+                return decoratorChains.invokeDecorator(methodIndex, decoratorIndex, decoratorInstances[decoratorIndex], args);
+            }
+            if (decoratorIndex == DecoratorChains.TARGET)
+            {
+                return decoratorChains.invokeTarget(methodIndex, target, args);
+            }
+        }
+        return invoke(method, args);
+    }
+
     @Override
     public Object invoke(Method method, Object[] args)
     {
@@ -194,10 +233,28 @@ public class DecoratorHandler implements InterceptorHandler, Externalizable
             if (producer instanceof AbstractProducer)
             {
                 interceptorInfo = ((AbstractProducer<?>)producer).getInterceptorInfo();
+                initDecoratorChains(((AbstractProducer<?>)producer).getDecoratorChains());
             }
         }
     }
 
+    private void initDecoratorChains(DecoratorChains chains)
+    {
+        if (chains == null || !chains.isFor(decorators))
+        {
+            return;
+        }
+
+        // the decorators behind our position got created before this handler
+        Object[] tmpInstances = new Object[decorators.size()];
+        for (int i = index; i < tmpInstances.length; i++)
+        {
+            tmpInstances[i] = instances.get(decorators.get(i));
+        }
+        decoratorInstances = tmpInstances;
+        decoratorChains = chains;
+    }
+
     private static void serializeDecorator(ObjectOutput out, Decorator<?> key) throws IOException
     {
         String id = WebBeansUtil.getPassivationId(key);
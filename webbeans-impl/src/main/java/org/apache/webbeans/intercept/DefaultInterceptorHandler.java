@@ -39,6 +39,7 @@ import java.io.NotSerializableException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -75,18 +76,50 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
     private Map<Method, List<Interceptor<?>>> interceptors;
     private Map<Interceptor<?>, ?> instances;
 
+    /**
+     * The interceptor chains indexed by the method index of the proxy class.
+     * Shared between all handlers of the same bean. Might be {@code null},
+     * e.g. after deserialisation, in which case we use the {@link #interceptors} Map.
+     */
+    private InterceptorChains interceptorChains;
+
+    /**
+     * Provider for the {@link #delegate}, shared by all InvocationContexts of this handler.
+     */
+    private Provider<T> delegateProvider;
+
+    /**
+     * InterceptorHandler wich gets used in our InjectionTargets which
+     * support interceptors and decorators
+     * @param target the decorated and intercepted instance. Needed for delivering Events to private methods, etc.
+     * @param delegate the outermost Decorator or the intercepted instance
+     * @param interceptors Map with all active interceptors for each method.
+     * @param instances the Interceptor instances
+     * @param beanPassivationId passivationId if a Bean is {@link javax.enterprise.inject.spi.PassivationCapable}
+     */
+    public DefaultInterceptorHandler(T target,
+                                     T delegate,
+                                     Map<Method, List<Interceptor<?>>> interceptors,
+                                     Map<Interceptor<?>, ?> instances,
+                                     String beanPassivationId)
+    {
+        this(target, delegate, interceptors, null, instances, beanPassivationId);
+    }
+
     /**
      * InterceptorHandler wich gets used in our InjectionTargets which
      * support interceptors and decorators
      * @param target the decorated and intercepted instance. Needed for delivering Events to private methods, etc.
      * @param delegate the outermost Decorator or the intercepted instance
      * @param interceptors Map with all active interceptors for each method.
+     * @param interceptorChains the precomputed interceptor chains of the proxy class or {@code null}
      * @param instances the Interceptor instances
      * @param beanPassivationId passivationId if a Bean is {@link javax.enterprise.inject.spi.PassivationCapable}
      */
     public DefaultInterceptorHandler(T target,
                                      T delegate,
                                      Map<Method, List<Interceptor<?>>> interceptors,
+                                     InterceptorChains interceptorChains,
                                      Map<Interceptor<?>, ?> instances,
                                      String beanPassivationId)
     {
@@ -94,7 +127,9 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
         this.delegate = delegate;
         this.instances = instances;
         this.interceptors = interceptors;
+        this.interceptorChains = interceptorChains;
         this.beanPassivationId = beanPassivationId;
+        this.delegateProvider = new InstanceProvider<>(delegate);
     }
 
     public DefaultInterceptorHandler()
@@ -134,7 +169,7 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
             }
 
             InterceptorInvocationContext<T> ctx
-                = new InterceptorInvocationContext<T>(new InstanceProvider(delegate), InterceptionType.AROUND_INVOKE, methodInterceptors, instances, method, parameters);
+                = new InterceptorInvocationContext<T>(delegateProvider, InterceptionType.AROUND_INVOKE, methodInterceptors, instances, method, parameters);
 
             return ctx.proceed();
         }
@@ -144,6 +179,40 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
         }
     }
 
+    /**
+     * Fast path used by the generated proxies.
+     * The interceptor chain gets picked by index and for methods which are only decorated
+     * we directly invoke the delegate without creating an InvocationContext.
+     */
+    @Override
+    public Object invoke(int methodIndex, Method method, Object[] parameters)
+    {
+        Interceptor<?>[] methodInterceptors = interceptorChains != null ? interceptorChains.getInterceptors(methodIndex, method) : null;
+        if (methodInterceptors == null)
+        {
+            return invoke(method, parameters);
+        }
+
+        try
+        {
+            if (methodInterceptors.length == 0)
+            {
+                return method.invoke(delegate, parameters);
+            }
+
+            return new InterceptorInvocationContext<T>(delegateProvider, InterceptionType.AROUND_INVOKE, methodInterceptors, instances, method, parameters)
+                    .proceed();
+        }
+        catch (InvocationTargetException ite)
+        {
+            return ExceptionUtil.throwAsRuntimeException(ite.getCause());
+        }
+        catch (Exception e)
+        {
+            return ExceptionUtil.throwAsRuntimeException(e);
+        }
+    }
+
     /**
      * The following code gets generated into the proxy:
      *
@@ -225,6 +294,7 @@ public class DefaultInterceptorHandler<T> implements InterceptorHandler, Externa
         {
             delegate = (T) in.readObject();
         }
+        delegateProvider = new InstanceProvider<>(delegate);
 
         int instancesSize = in.readInt();
         WebBeansContext webBeansContext = WebBeansContext.getInstance();
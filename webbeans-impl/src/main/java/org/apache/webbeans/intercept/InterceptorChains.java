@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.intercept;
+
+import javax.enterprise.inject.spi.Interceptor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The interceptor chains of all intercepted methods of a proxy class.
+ * The chains are indexed the same way as the intercepted methods array
+ * of the generated proxy, so the {@link DefaultInterceptorHandler} can pick
+ * the chain for a method via the method index without any Map lookup.
+ *
+ * Instances are immutable and get shared between all handlers of a bean.
+ */
+public final class InterceptorChains
+{
+    public static final Interceptor<?>[] NO_INTERCEPTORS = new Interceptor<?>[0];
+
+    private final Method[] methods;
+    private final Interceptor<?>[][] interceptors;
+
+    /**
+     * @param methods the intercepted methods in the order they got passed to the proxy factory
+     * @param methodInterceptors the interceptors for each method
+     */
+    public InterceptorChains(Method[] methods, Map<Method, List<Interceptor<?>>> methodInterceptors)
+    {
+        this.methods = methods.clone();
+        interceptors = new Interceptor<?>[methods.length][];
+        for (int i = 0; i < methods.length; i++)
+        {
+            Method method = methods[i];
+            if (!method.isAccessible())
+            {
+                method.setAccessible(true);
+            }
+
+            List<Interceptor<?>> chain = methodInterceptors.get(method);
+            interceptors[i] = chain == null || chain.isEmpty() ? NO_INTERCEPTORS : chain.toArray(new Interceptor<?>[chain.size()]);
+        }
+    }
+
+    /**
+     * @param methodIndex the index of the method in the proxy class
+     * @param method the invoked method
+     * @return the interceptor chain of the method or {@code null} if the index doesn't belong to the given method
+     */
+    public Interceptor<?>[] getInterceptors(int methodIndex, Method method)
+    {
+        if (methodIndex >= 0 && methodIndex < methods.length && methods[methodIndex] == method)
+        {
+            return interceptors[methodIndex];
+        }
+        return null;
+    }
+}
@@ -33,13 +33,25 @@ public class InterceptorInvocationContext<T> extends AbstractInvocationContext<T
 {
 
     protected InterceptionType type;
-    protected List<Interceptor<?>> interceptors;
+    protected Interceptor<?>[] interceptors;
     protected Map<Interceptor<?>, ?> instances;
     protected int index;
     
     public InterceptorInvocationContext(Provider<T> provider, InterceptionType type,
                                         List<Interceptor<?>> interceptors, Map<Interceptor<?>, ?> instances,
                                         AccessibleObject method, Object[] parameters)
+    {
+        this(provider, type,
+             interceptors.isEmpty() ? InterceptorChains.NO_INTERCEPTORS : interceptors.toArray(new Interceptor<?>[interceptors.size()]),
+             instances, method, parameters);
+    }
+
+    /**
+     * @param interceptors the interceptor chain. The array must not get modified afterwards as it might be shared.
+     */
+    public InterceptorInvocationContext(Provider<T> provider, InterceptionType type,
+                                        Interceptor<?>[] interceptors, Map<Interceptor<?>, ?> instances,
+                                        AccessibleObject method, Object[] parameters)
     {
         super(provider, method, parameters);
         this.type = type;
@@ -50,9 +62,9 @@ public class InterceptorInvocationContext<T> extends AbstractInvocationContext<T
     @Override
     public Object proceed() throws Exception
     {
-        if (index < interceptors.size())
+        if (index < interceptors.length)
         {
-            Interceptor interceptor = interceptors.get(index++);
+            Interceptor interceptor = interceptors[index++];
             if (!interceptor.intercepts(type))
             {
                 // continue with next interceptor
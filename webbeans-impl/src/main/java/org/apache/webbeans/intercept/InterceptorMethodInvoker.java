@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.intercept;
+
+import javax.interceptor.InvocationContext;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.webbeans.util.ExceptionUtil;
+
+/**
+ * Invokes an interceptor method with the signature
+ * <pre>Object|void &lt;METHOD&gt;(InvocationContext) [throws Exception]</pre>
+ *
+ * The method gets resolved into a {@link MethodHandle} once when the interceptor bean gets built.
+ * Compared to {@link Method#invoke(Object, Object...)} this avoids the varargs array per call
+ * and the wrapping of thrown Exceptions into an {@link InvocationTargetException}.
+ *
+ * If the method cannot be unreflected we fall back to plain reflection.
+ */
+public final class InterceptorMethodInvoker
+{
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, InvocationContext.class);
+
+    private final Method method;
+
+    /**
+     * handle with the type {@link #INVOKER_TYPE} or {@code null} if we need to use reflection
+     */
+    private final MethodHandle handle;
+
+    private InterceptorMethodInvoker(Method method, MethodHandle handle)
+    {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * @param method an accessible interceptor method
+     * @return the invoker or {@code null} if the method doesn't take exactly one InvocationContext parameter
+     */
+    public static InterceptorMethodInvoker of(Method method)
+    {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !parameterTypes[0].isAssignableFrom(InvocationContext.class))
+        {
+            return null;
+        }
+
+        MethodHandle handle;
+        try
+        {
+            handle = MethodHandles.lookup().unreflect(method).asType(INVOKER_TYPE);
+        }
+        catch (IllegalAccessException | RuntimeException e)
+        {
+            // e.g. a SecurityManager or module restrictions, use plain reflection
+            handle = null;
+        }
+        return new InterceptorMethodInvoker(method, handle);
+    }
+
+    public Method getMethod()
+    {
+        return method;
+    }
+
+    public Object invoke(Object instance, InvocationContext invocationContext) throws Exception
+    {
+        if (handle == null)
+        {
+            try
+            {
+                return method.invoke(instance, invocationContext);
+            }
+            catch (InvocationTargetException ite)
+            {
+                throw ExceptionUtil.throwAsRuntimeException(ite.getCause());
+            }
+        }
+
+        try
+        {
+            return handle.invokeExact(instance, invocationContext);
+        }
+        catch (Exception | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable t)
+        {
+            throw ExceptionUtil.throwAsRuntimeException(t);
+        }
+    }
+}
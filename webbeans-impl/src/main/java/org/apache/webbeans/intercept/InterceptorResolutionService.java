@@ -104,6 +104,7 @@ public class InterceptorResolutionService
 
         AnnotationManager annotationManager = webBeansContext.getAnnotationManager();
         BeanManagerImpl beanManager = webBeansContext.getBeanManagerImpl();
+        InterceptorsManager interceptorsManager = webBeansContext.getInterceptorsManager();
 
 
         // pick up EJB-style interceptors from a class level
@@ -122,15 +123,15 @@ public class InterceptorResolutionService
 
         // pick up CDI interceptors from a class level
         Set<Annotation> classInterceptorBindings = annotationManager.getInterceptorAnnotations(annotatedType.getAnnotations());
-        List<Interceptor<?>> classLevelInterceptors;
+        Interceptor<?>[] classLevelInterceptors;
         if (classInterceptorBindings.size() > 0)
         {
-            classLevelInterceptors = webBeansContext.getBeanManagerImpl().resolveInterceptors(InterceptionType.AROUND_INVOKE, AnnotationUtil.asArray(classInterceptorBindings));
-            allUsedCdiInterceptors.addAll(classLevelInterceptors);
+            classLevelInterceptors = interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_INVOKE, classInterceptorBindings);
+            Collections.addAll(allUsedCdiInterceptors, classLevelInterceptors);
         }
         else
         {
-            classLevelInterceptors = Collections.EMPTY_LIST;
+            classLevelInterceptors = InterceptorChains.NO_INTERCEPTORS;
         }
 
         Set<Interceptor<?>> allUsedConstructorCdiInterceptors = new HashSet<>();
@@ -205,9 +206,11 @@ public class InterceptorResolutionService
 
         List<Interceptor<?>> cdiInterceptors = new ArrayList<>(allUsedCdiInterceptors);
         Collections.sort(cdiInterceptors, new InterceptorComparator(webBeansContext));
+        cdiInterceptors = interceptorsManager.shareInterceptorList(cdiInterceptors);
 
         List<Interceptor<?>> cdiConstructorInterceptors = new ArrayList<>(allUsedConstructorCdiInterceptors);
         Collections.sort(cdiConstructorInterceptors, new InterceptorComparator(webBeansContext));
+        cdiConstructorInterceptors = interceptorsManager.shareInterceptorList(cdiConstructorInterceptors);
 
         boolean interceptedBean = allUsedEjbInterceptors.size() > 0 ||
                                   allUsedCdiInterceptors.size() > 0 ||
@@ -271,15 +274,12 @@ public class InterceptorResolutionService
                                                       Set<Interceptor<?>> allUsedCdiInterceptors,
                                                       Set<Interceptor<?>> allUsedConstructorCdiInterceptors)
     {
-        BeanManagerImpl beanManagerImpl = webBeansContext.getBeanManagerImpl();
+        InterceptorsManager interceptorsManager = webBeansContext.getInterceptorsManager();
 
-        Annotation[] interceptorBindings = null;
         if (classInterceptorBindings.size() > 0)
         {
-            interceptorBindings = AnnotationUtil.asArray(classInterceptorBindings);
-
-            allUsedCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.POST_CONSTRUCT, interceptorBindings));
-            allUsedCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.PRE_DESTROY, interceptorBindings));
+            Collections.addAll(allUsedCdiInterceptors, interceptorsManager.resolveSharedInterceptors(InterceptionType.POST_CONSTRUCT, classInterceptorBindings));
+            Collections.addAll(allUsedCdiInterceptors, interceptorsManager.resolveSharedInterceptors(InterceptionType.PRE_DESTROY, classInterceptorBindings));
         }
 
         AnnotatedConstructor<?> constructorToUse = null;
@@ -319,12 +319,14 @@ public class InterceptorResolutionService
             }
             if (!constructorAnnot.isEmpty())
             {
-                allUsedConstructorCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, AnnotationUtil.asArray(constructorAnnot)));
+                Collections.addAll(allUsedConstructorCdiInterceptors,
+                        interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_CONSTRUCT, constructorAnnot));
             }
         }
-        else if (interceptorBindings != null)
+        else if (classInterceptorBindings.size() > 0)
         {
-            allUsedConstructorCdiInterceptors.addAll(beanManagerImpl.resolveInterceptors(InterceptionType.AROUND_CONSTRUCT, interceptorBindings));
+            Collections.addAll(allUsedConstructorCdiInterceptors,
+                    interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_CONSTRUCT, classInterceptorBindings));
         }
         allUsedCdiInterceptors.addAll(allUsedConstructorCdiInterceptors);
     }
@@ -603,7 +605,7 @@ public class InterceptorResolutionService
                                                 Set<Interceptor<?>> allUsedCdiInterceptors,
                                                 AnnotatedCallable annotatedMethod,
                                                 Set<Annotation> classInterceptorBindings,
-                                                List<Interceptor<?>> classLevelInterceptors,
+                                                Interceptor<?>[] classLevelInterceptors,
                                                 boolean failOnFinal)
     {
         AnnotationManager annotationManager = webBeansContext.getAnnotationManager();
@@ -643,11 +645,12 @@ public class InterceptorResolutionService
         }
 
 
-        List<Interceptor<?>> methodInterceptors;
+        Interceptor<?>[] methodInterceptors;
         if (hasMethodInterceptors || classLevelInterceptors == null)
         {
-            methodInterceptors = webBeansContext.getBeanManagerImpl().resolveInterceptors(interceptionType, AnnotationUtil.asArray(cummulatedInterceptorBindings.values()));
-            allUsedCdiInterceptors.addAll(methodInterceptors);
+            methodInterceptors = webBeansContext.getInterceptorsManager()
+                    .resolveSharedInterceptors(interceptionType, cummulatedInterceptorBindings.values());
+            Collections.addAll(allUsedCdiInterceptors, methodInterceptors);
         }
         else
         {
@@ -768,6 +771,7 @@ public class InterceptorResolutionService
 
     public Map<Method, List<Interceptor<?>>> createMethodInterceptors(BeanInterceptorInfo interceptorInfo)
     {
+        InterceptorsManager interceptorsManager = webBeansContext.getInterceptorsManager();
         Map<Method, List<Interceptor<?>>> methodInterceptors = new HashMap<>(interceptorInfo.getBusinessMethodsInfo().size());
         for (Map.Entry<Method, BusinessMethodInterceptorInfo> miEntry : interceptorInfo.getBusinessMethodsInfo().entrySet())
         {
@@ -794,7 +798,7 @@ public class InterceptorResolutionService
 
             if (activeInterceptors.size() > 0)
             {
-                methodInterceptors.put(interceptedMethod, activeInterceptors);
+                methodInterceptors.put(interceptedMethod, interceptorsManager.shareInterceptorList(activeInterceptors));
             }
             else if (mii.getMethodDecorators() != null)
             {
@@ -838,6 +842,7 @@ public class InterceptorResolutionService
                                        CreationalContext<T> creationalContext,
                                        BeanInterceptorInfo interceptorInfo,
                                        Class<? extends T> proxyClass, Map<Method, List<Interceptor<?>>> methodInterceptors,
+                                       InterceptorChains interceptorChains, DecoratorChains decoratorChains,
                                        String passivationId, Map<Interceptor<?>, Object> interceptorInstances,
                                        Function<CreationalContextImpl<?>, Boolean> isDelegateInjection,
                                        BiFunction<T, List<Decorator<?>>, List<Decorator<?>>> filterDecorators)
@@ -861,10 +866,11 @@ public class InterceptorResolutionService
                 Object decoratorInstance = decorator.create(creationalContext);
                 instances.put(decorator, decoratorInstance);
                 delegate = webBeansContext.getInterceptorDecoratorProxyFactory().createProxyInstance(proxyClass, instance,
-                        new DecoratorHandler(interceptorInfo, decorators, instances, i - 1, instance, passivationId));
+                        new DecoratorHandler(interceptorInfo, decorators, instances, i - 1, instance, decoratorChains, passivationId));
             }
         }
-        InterceptorHandler interceptorHandler = new DefaultInterceptorHandler<>(instance, delegate, methodInterceptors, interceptorInstances, passivationId);
+        InterceptorHandler interceptorHandler = new DefaultInterceptorHandler<>(instance, delegate, methodInterceptors, interceptorChains,
+                interceptorInstances, passivationId);
 
         return webBeansContext.getInterceptorDecoratorProxyFactory().createProxyInstance(proxyClass, instance, interceptorHandler);
     }
@@ -1044,6 +1050,14 @@ public class InterceptorResolutionService
             }
         }
 
+        /**
+         * @param cdiInterceptors the shared and sorted CDI interceptors, the array must not get modified
+         */
+        public void setCdiInterceptors(Interceptor<?>[] cdiInterceptors)
+        {
+            this.cdiInterceptors = cdiInterceptors == null || cdiInterceptors.length == 0 ? null : cdiInterceptors;
+        }
+
         public void setMethodDecorators(LinkedHashMap<Decorator<?>, Method> methodDecorators)
         {
             if (methodDecorators == null || methodDecorators.isEmpty())
@@ -19,6 +19,7 @@
 package org.apache.webbeans.intercept;
 
 import java.lang.annotation.Annotation;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -83,6 +84,18 @@ public class InterceptorsManager
 
     private final PriorityClasses priorityInterceptors = new PriorityClasses();
 
+    /**
+     * Resolved interceptor chains per InterceptionType and interceptor binding set.
+     * All beans and methods with the same effective bindings share the same chain.
+     * This cache gets dropped whenever the interceptor configuration changes.
+     */
+    private final ConcurrentMap<InterceptorChainKey, Interceptor<?>[]> resolvedInterceptorChains = new ConcurrentHashMap<>();
+
+    /**
+     * Canonical instances of immutable interceptor lists.
+     */
+    private final ConcurrentMap<List<Interceptor<?>>, List<Interceptor<?>>> sharedInterceptorLists = new ConcurrentHashMap<>();
+
 
     public InterceptorsManager(WebBeansContext webBeansContext)
     {
@@ -102,6 +115,7 @@ public class InterceptorsManager
         cdiInterceptors.clear();
         ejbInterceptors.clear();
         priorityInterceptors.clear();
+        clearResolvedInterceptors();
     }
 
 
@@ -115,6 +129,7 @@ public class InterceptorsManager
         if (!configuredInterceptorClasses.contains(interceptorClazz))
         {
             configuredInterceptorClasses.add(interceptorClazz);
+            clearResolvedInterceptors();
         }
     }
 
@@ -220,6 +235,60 @@ public class InterceptorsManager
         return interceptorList;
     }
 
+    /**
+     * Resolves the CDI interceptors like {@link #resolveInterceptors(InterceptionType, Annotation...)}
+     * but caches the result per InterceptionType and binding set.
+     * The returned array is shared and must not be modified!
+     *
+     * @return the sorted interceptors, never {@code null}
+     */
+    public Interceptor<?>[] resolveSharedInterceptors(InterceptionType type, Collection<Annotation> interceptorBindings)
+    {
+        InterceptorChainKey key = new InterceptorChainKey(type, interceptorBindings);
+        Interceptor<?>[] interceptors = resolvedInterceptorChains.get(key);
+        if (interceptors == null)
+        {
+            List<Interceptor<?>> resolved = beanManager.resolveInterceptors(type, AnnotationUtil.asArray(interceptorBindings));
+            interceptors = resolved.toArray(new Interceptor<?>[resolved.size()]);
+            Interceptor<?>[] existing = resolvedInterceptorChains.putIfAbsent(key, interceptors);
+            if (existing != null)
+            {
+                interceptors = existing;
+            }
+        }
+        return interceptors;
+    }
+
+    /**
+     * @return an unmodifiable List with the same content as the given list which
+     *         is shared with all other callers passing an equal list
+     */
+    public List<Interceptor<?>> shareInterceptorList(List<Interceptor<?>> interceptors)
+    {
+        if (interceptors.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        List<Interceptor<?>> shared = sharedInterceptorLists.get(interceptors);
+        if (shared == null)
+        {
+            shared = Collections.unmodifiableList(new ArrayList<>(interceptors));
+            List<Interceptor<?>> existing = sharedInterceptorLists.putIfAbsent(shared, shared);
+            if (existing != null)
+            {
+                shared = existing;
+            }
+        }
+        return shared;
+    }
+
+    private void clearResolvedInterceptors()
+    {
+        resolvedInterceptorChains.clear();
+        sharedInterceptorLists.clear();
+    }
+
     private boolean intercepts(Interceptor<?> interceptor, Annotation[] requestedInterceptorBindings)
     {
         for (Annotation interceptorBinding : interceptor.getInterceptorBindings())
@@ -285,6 +354,7 @@ public class InterceptorsManager
     {
         cdiInterceptors.add(interceptor);
         beanManager.addPassivationInfo(interceptor);
+        clearResolvedInterceptors();
     }
 
 
@@ -308,6 +378,7 @@ public class InterceptorsManager
     public void addInterceptorBindingType(AnnotatedType<? extends Annotation> annotatedType)
     {
         additionalInterceptorBindingTypesAnnotatedTypes.add(annotatedType);
+        clearResolvedInterceptors();
     }
 
     public void addInterceptorBindingType(Class<? extends Annotation> bindingType, Annotation... inheritsArray)
@@ -319,6 +390,7 @@ public class InterceptorsManager
             additionalInterceptorBindingTypes.put(bindingType, inherits);
         }
         Collections.addAll(inherits, inheritsArray);
+        clearResolvedInterceptors();
     }
 
     public boolean hasInterceptorBindingType(Class<? extends Annotation> bindingType)
@@ -356,16 +428,108 @@ public class InterceptorsManager
 
     public int getPriority(final Class<?> type)
     {
-        return priorityInterceptors.getPriority(type).orElseGet(() -> getPrioritizedInterceptors().indexOf(type));
+        return priorityInterceptors.getPriority(type).orElseGet(() -> priorityInterceptors.getSorted().indexOf(type));
     }
 
+    /**
+     * @return the interceptors enabled via &#064;Priority. The List is mutable as AfterTypeDiscovery
+     *         observers may reorder it, any modification drops the resolved interceptor chains.
+     */
     public List<Class<?>> getPrioritizedInterceptors()
     {
-        return priorityInterceptors.getSorted();
+        return new PrioritizedInterceptors(priorityInterceptors.getSorted());
     }
 
     public void addPriorityClazzInterceptor(Class<?> javaClass, Priority priority)
     {
         priorityInterceptors.add(javaClass, priority);
+        clearResolvedInterceptors();
+    }
+
+    /**
+     * Write through view of the prioritized interceptors which drops the resolved chains on every modification.
+     */
+    private final class PrioritizedInterceptors extends AbstractList<Class<?>>
+    {
+        private final List<Class<?>> delegate;
+
+        private PrioritizedInterceptors(List<Class<?>> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Class<?> get(int index)
+        {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return delegate.size();
+        }
+
+        @Override
+        public Class<?> set(int index, Class<?> element)
+        {
+            Class<?> previous = delegate.set(index, element);
+            clearResolvedInterceptors();
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Class<?> element)
+        {
+            delegate.add(index, element);
+            clearResolvedInterceptors();
+        }
+
+        @Override
+        public Class<?> remove(int index)
+        {
+            Class<?> removed = delegate.remove(index);
+            clearResolvedInterceptors();
+            return removed;
+        }
+    }
+
+    /**
+     * Cache key for resolved interceptor chains.
+     * The order of the bindings doesn't matter for the resolution.
+     */
+    private static final class InterceptorChainKey
+    {
+        private final InterceptionType type;
+        private final Set<Annotation> interceptorBindings;
+        private final int hashCode;
+
+        private InterceptorChainKey(InterceptionType type, Collection<Annotation> interceptorBindings)
+        {
+            this.type = type;
+            this.interceptorBindings = new HashSet<>(interceptorBindings);
+            hashCode = 31 * type.hashCode() + this.interceptorBindings.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof InterceptorChainKey))
+            {
+                return false;
+            }
+            InterceptorChainKey other = (InterceptorChainKey) o;
+            return type == other.type && interceptorBindings.equals(other.interceptorBindings);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
     }
 }
@@ -128,6 +128,7 @@ public abstract class AbstractLifeCycle implements ContainerLifecycle
         logger.fine("Scanning classpaths for beans artifacts.");
 
         //Scan
+        deployer.getBootProfiler().begin("scan");
         scannerService.scan();
         
         //Deploy beans
@@ -33,6 +33,7 @@ import javax.enterprise.inject.spi.Annotated;
 
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.util.Asserts;
+import org.apache.webbeans.util.CollectionUtil;
 import org.apache.webbeans.util.GenericsUtil;
 
 import static java.util.Collections.singleton;
@@ -55,6 +56,8 @@ public abstract class AbstractAnnotated implements Annotated
     private Set<Annotation> annotations = new HashSet<>();
     private Set<Class<?>> repeatables = new HashSet<>();
 
+    private boolean compacted;
+
     private final WebBeansContext webBeansContext;
     
     /**
@@ -207,6 +210,31 @@ public abstract class AbstractAnnotated implements Annotated
         return typeClosures;
     }
 
+    /**
+     * Replace the annotation and type sets with compact copies.
+     * Must only get invoked once the container got started.
+     * The compacted sets stay mutable, so addAnnotation and clearAnnotations keep working.
+     */
+    public void compact()
+    {
+        if (!compacted)
+        {
+            compacted = true;
+            compactMetaData();
+        }
+    }
+
+    protected void compactMetaData()
+    {
+        annotations = CollectionUtil.compactSet(annotations);
+        repeatables = CollectionUtil.compactSet(repeatables);
+        Set<Type> types = typeClosures;
+        if (types != null)
+        {
+            typeClosures = CollectionUtil.compactSet(types);
+        }
+    }
+
     protected abstract Class<?> getOwningClass();
     protected abstract Class<?> getDeclaringClass();
 
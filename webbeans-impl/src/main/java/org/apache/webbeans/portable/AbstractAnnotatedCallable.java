@@ -40,7 +40,7 @@ import javax.enterprise.inject.spi.AnnotatedType;
 public abstract class AbstractAnnotatedCallable<X> extends AbstractAnnotatedMember<X> implements AnnotatedCallable<X>
 {
     /**Annotated parameters*/
-    private List<AnnotatedParameter<X>> annotatedParameters = new ArrayList<>();
+    private ArrayList<AnnotatedParameter<X>> annotatedParameters = new ArrayList<>();
     
     AbstractAnnotatedCallable(WebBeansContext webBeansContext, Type baseType, Member javaMember, AnnotatedType<X> declaringType)
     {
@@ -81,6 +81,20 @@ public abstract class AbstractAnnotatedCallable<X> extends AbstractAnnotatedMemb
         return annotatedParameters;
     }
     
+    @Override
+    protected void compactMetaData()
+    {
+        super.compactMetaData();
+        annotatedParameters.trimToSize();
+        for (AnnotatedParameter<X> parameter : annotatedParameters)
+        {
+            if (parameter instanceof AbstractAnnotated)
+            {
+                ((AbstractAnnotated) parameter).compact();
+            }
+        }
+    }
+
     public String toString()
     {
         StringBuilder builder = new StringBuilder(super.toString());
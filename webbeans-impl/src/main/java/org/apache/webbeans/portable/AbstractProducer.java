@@ -38,6 +38,8 @@ import javax.enterprise.inject.spi.Producer;
 import org.apache.webbeans.component.BeanManagerBean;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.context.creational.CreationalContextImpl;
+import org.apache.webbeans.intercept.DecoratorChains;
+import org.apache.webbeans.intercept.InterceptorChains;
 import org.apache.webbeans.intercept.InterceptorResolutionService.BeanInterceptorInfo;
 import org.apache.webbeans.proxy.InterceptorDecoratorProxyFactory;
 import org.apache.webbeans.proxy.OwbInterceptorProxy;
@@ -51,6 +53,8 @@ public abstract class AbstractProducer<T> implements Producer<T>
     protected BeanInterceptorInfo interceptorInfo;
     protected InterceptorDecoratorProxyFactory proxyFactory;
     protected Map<Method, List<Interceptor<?>>> methodInterceptors;
+    protected InterceptorChains interceptorChains;
+    protected DecoratorChains decoratorChains;
 
     public AbstractProducer()
     {
@@ -103,6 +107,11 @@ public abstract class AbstractProducer<T> implements Producer<T>
             Method[] nonInterceptedMethods = interceptorInfo.getNonInterceptedMethods().toArray(new Method[interceptorInfo.getNonInterceptedMethods().size()]);
 
             proxyClass = (Class<? extends T>) pf.createProxyClass(bean, classLoader, annotatedType.getJavaClass(), businessMethods, nonInterceptedMethods);
+            interceptorChains = new InterceptorChains(businessMethods, methodInterceptors);
+            if (interceptorInfo.getDecorators() != null)
+            {
+                decoratorChains = new DecoratorChains(businessMethods, interceptorInfo, interceptorInfo.getDecorators());
+            }
 
             // now we collect the post-construct and pre-destroy interceptors
 
@@ -120,6 +129,11 @@ public abstract class AbstractProducer<T> implements Producer<T>
         return interceptorInfo;
     }
 
+    public DecoratorChains getDecoratorChains()
+    {
+        return decoratorChains;
+    }
+
     @Override
     public T produce(CreationalContext<T> creationalContext)
     {
@@ -137,7 +151,7 @@ public abstract class AbstractProducer<T> implements Producer<T>
         {
             instance = creationalContextImpl.getWebBeansContext().getInterceptorResolutionService()
                 .createProxiedInstance(instance, creationalContextImpl, creationalContext,
-                        interceptorInfo, proxyClass, methodInterceptors, passivationId, interceptorInstances,
+                        interceptorInfo, proxyClass, methodInterceptors, interceptorChains, decoratorChains, passivationId, interceptorInstances,
                         this::isDelegateInjection, this::filterDecorators);
             creationalContextImpl.putContextual(oldContextual);
         }
@@ -183,6 +183,35 @@ public class AnnotatedTypeImpl<X>
         return getJavaClass();
     }
 
+    @Override
+    protected void compactMetaData()
+    {
+        super.compactMetaData();
+        if (supertype instanceof AbstractAnnotated)
+        {
+            ((AbstractAnnotated) supertype).compact();
+        }
+
+        State currentState = state;
+        if (currentState != null)
+        {
+            compactMembers(currentState.constructors);
+            compactMembers(currentState.fields);
+            compactMembers(currentState.methods);
+        }
+    }
+
+    private static void compactMembers(Set<?> members)
+    {
+        for (Object member : members)
+        {
+            if (member instanceof AbstractAnnotated)
+            {
+                ((AbstractAnnotated) member).compact();
+            }
+        }
+    }
+
     private State getState()
     {
         State result = state;
@@ -113,6 +113,11 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
 
     private List<Interceptor<?>> aroundConstructInterceptors;
 
+    /**
+     * {@code null} as long as it's not yet known, see {@link #isTrivial()}
+     */
+    private volatile Boolean trivial;
+
     public InjectionTargetImpl(AnnotatedType<T> annotatedType, Set<InjectionPoint> injectionPoints, WebBeansContext webBeansContext,
                                List<AnnotatedMethod<?>> postConstructMethods, List<AnnotatedMethod<?>> preDestroyMethods)
     {
@@ -181,6 +186,73 @@ public class InjectionTargetImpl<T> extends AbstractProducer<T> implements Injec
         }
     }
 
+    /**
+     * A trivial InjectionTarget has no injection points, no initializer methods, no lifecycle callbacks,
+     * no interceptors and no decorators. Its instances only need to get constructed,
+     * see {@link #produceTrivialInstance()}.
+     *
+     * @return {@code false} if not trivial or if the interceptor stack didn't get defined yet
+     */
+    public boolean isTrivial()
+    {
+        Boolean isTrivial = trivial;
+        if (isTrivial == null)
+        {
+            if (interceptorInfo == null)
+            {
+                // not yet validated
+                return false;
+            }
+
+            // subclasses might customize the instance creation
+            isTrivial = getClass() == InjectionTargetImpl.class
+                && injectionPoints.isEmpty()
+                && !hasInterceptorInfo()
+                && !hasAroundConstruct()
+                && (postConstructMethods == null || postConstructMethods.isEmpty())
+                && (preDestroyMethods == null || preDestroyMethods.isEmpty())
+                && !hasInitializerMethods();
+            trivial = isTrivial;
+        }
+        return isTrivial;
+    }
+
+    /**
+     * Creates an instance of a {@link #isTrivial() trivial} InjectionTarget
+     * without any CreationalContext bookkeeping.
+     */
+    public T produceTrivialInstance()
+    {
+        Constructor<T> cons = getConstructor().getJavaMember();
+        T instance;
+        try
+        {
+            if (!cons.isAccessible())
+            {
+                webBeansContext.getSecurityService().doPrivilegedSetAccessible(cons, true);
+            }
+            instance = cons.newInstance();
+        }
+        catch (Exception e)
+        {
+            throw new WebBeansException(e);
+        }
+        injectResources(instance);
+        return instance;
+    }
+
+    private boolean hasInitializerMethods()
+    {
+        for (AnnotatedMethod<? super T> method : webBeansContext.getAnnotatedElementFactory().getFilteredAnnotatedMethods(annotatedType))
+        {
+            if (method.isAnnotationPresent(Inject.class))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected boolean needsProxy()
     {
@@ -415,6 +415,19 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
         }
     }
 
+    private void pushMethodIndex(MethodVisitor mv, int methodIndex)
+    {
+        if (methodIndex < 128)
+        {
+            mv.visitIntInsn(Opcodes.BIPUSH, methodIndex);
+        }
+        else
+        {
+            // for methods > 127 we need to push a short number as index
+            mv.visitIntInsn(Opcodes.SIPUSH, methodIndex);
+        }
+    }
+
     private void generateInterceptorHandledMethod(ClassWriter cw, Method method, int methodIndex, Class<?> classToProxy, String proxyClassFileName)
             throws ProxyGenerationException
     {
@@ -452,43 +465,11 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
 
         // push try code
         mv.visitLabel(l0);
-        String classNameToOverride = method.getDeclaringClass().getName().replace('.', '/');
-        mv.visitLdcInsn(Type.getType("L" + classNameToOverride + ";"));
-
-        // the following code generates the bytecode for this line of Java:
-        // Method method = <proxy>.class.getMethod("add", new Class[] { <array of function argument classes> });
-
-        // get the method name to invoke, and push to stack
-        mv.visitLdcInsn(method.getName());
-
-        // create the Class[]
-        createArrayDefinition(mv, parameterTypes.length, Class.class);
 
+        // local variable slot to store the caught exception in
         int length = 1;
-
-        // push parameters into array
-        for (int i = 0; i < parameterTypes.length; i++)
+        for (Class<?> parameterType : parameterTypes)
         {
-            // keep copy of array on stack
-            mv.visitInsn(Opcodes.DUP);
-
-            Class<?> parameterType = parameterTypes[i];
-
-            // push number onto stack
-            pushIntOntoStack(mv, i);
-
-            if (parameterType.isPrimitive())
-            {
-                String wrapperType = getWrapperType(parameterType);
-                mv.visitFieldInsn(Opcodes.GETSTATIC, wrapperType, "TYPE", "Ljava/lang/Class;");
-            }
-            else
-            {
-                mv.visitLdcInsn(Type.getType(parameterType));
-            }
-
-            mv.visitInsn(Opcodes.AASTORE);
-
             if (Long.TYPE.equals(parameterType) || Double.TYPE.equals(parameterType))
             {
                 length += 2;
@@ -500,7 +481,7 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
         }
 
         // the following code generates bytecode equivalent to:
-        // return ((<returntype>) invocationHandler.invoke(this, {methodIndex}, new Object[] { <function arguments }))[.<primitive>Value()];
+        // return ((<returntype>) invocationHandler.invoke({methodIndex}, methods[{methodIndex}], new Object[] { <function arguments }))[.<primitive>Value()];
 
         Label l4 = new Label();
         mv.visitLabel(l4);
@@ -510,24 +491,18 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
         // get the invocationHandler field from this class
         mv.visitFieldInsn(Opcodes.GETFIELD, proxyClassFileName, FIELD_INTERCEPTOR_HANDLER, Type.getDescriptor(InterceptorHandler.class));
 
-        // add the Method from the static array as first parameter
-        mv.visitFieldInsn(Opcodes.GETSTATIC, proxyClassFileName, FIELD_INTERCEPTED_METHODS, Type.getDescriptor(Method[].class));
-
-        // push the methodIndex of the current method
-        if (methodIndex <128)
-        {
-            mv.visitIntInsn(Opcodes.BIPUSH, methodIndex);
-        }
-        else if (methodIndex < 32267)
-        {
-            // for methods > 127 we need to push a short number as index
-            mv.visitIntInsn(Opcodes.SIPUSH, methodIndex);
-        }
-        else
+        if (methodIndex >= 32267)
         {
             throw new ProxyGenerationException("Sorry, we only support Classes with 2^15 methods...");
         }
 
+        // the methodIndex is the first parameter
+        pushMethodIndex(mv, methodIndex);
+
+        // add the Method from the static array as second parameter
+        mv.visitFieldInsn(Opcodes.GETSTATIC, proxyClassFileName, FIELD_INTERCEPTED_METHODS, Type.getDescriptor(Method[].class));
+        pushMethodIndex(mv, methodIndex);
+
         // and now load the Method from the array
         mv.visitInsn(Opcodes.AALOAD);
 
@@ -538,7 +513,7 @@ public class InterceptorDecoratorProxyFactory extends AbstractProxyFactory
 
         // invoke the invocationHandler
         mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(InterceptorHandler.class), "invoke",
-                "(Ljava/lang/reflect/Method;[Ljava/lang/Object;)Ljava/lang/Object;", true);
+                "(ILjava/lang/reflect/Method;[Ljava/lang/Object;)Ljava/lang/Object;", true);
 
         // cast the result
         mv.visitTypeInsn(Opcodes.CHECKCAST, getCastType(returnType));
@@ -35,4 +35,18 @@ public interface InterceptorHandler
      * @return the return value of the intercepted methos
      */
     Object invoke(Method method, Object[] args);
+
+    /**
+     * This method will get called by the generated proxy instead of {@link #invoke(Method, Object[])}.
+     * The methodIndex is the position of the method in the intercepted methods of the proxy class.
+     * Handlers can use it to look up precomputed per-method information without hashing the Method.
+     * @param methodIndex index of the method in the intercepted methods of the proxy class
+     * @param method Method which should get invoked
+     * @param args original invocation parameters
+     * @return the return value of the intercepted methos
+     */
+    default Object invoke(int methodIndex, Method method, Object[] args)
+    {
+        return invoke(method, args);
+    }
 }
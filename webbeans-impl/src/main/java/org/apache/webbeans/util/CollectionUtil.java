@@ -31,4 +31,20 @@ public class CollectionUtil
         Set<T> set = new HashSet<>(Arrays.asList(entries));
         return Collections.unmodifiableSet(set);
     }
+
+    /**
+     * Copy the given Set into a Set with as little memory overhead as possible.
+     * The copy stays mutable, so compacted metadata behaves like before.
+     *
+     * @param set the Set to copy
+     * @return a compact Set with the same elements
+     */
+    public static <T> Set<T> compactSet(Set<T> set)
+    {
+        // the default constructor would allocate at least 16 buckets,
+        // an empty HashSet does not allocate any bucket before the first add
+        Set<T> compact = new HashSet<>((int) (set.size() / 0.75f) + 1);
+        compact.addAll(set);
+        return compact;
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helper to run independent boot time work on multiple threads.
+ *
+ * <p>The worker threads use the ThreadContextClassLoader of the calling thread,
+ * so {@link WebBeansUtil#getCurrentClassLoader()} and the WebBeansContext lookup
+ * behave the same as on the deploying thread.</p>
+ *
+ * @see org.apache.webbeans.config.OpenWebBeansConfiguration#BOOT_PARALLELISM
+ */
+public abstract class ParallelUtil
+{
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private ParallelUtil()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Apply the function to all items.
+     * The result list has the same order as the items, regardless of the order in which they got processed.
+     * If a function invocation fails the first failure (in item order) gets rethrown.
+     *
+     * @param parallelism the maximum number of threads, {@code 1} or less means the calling thread does all the work
+     */
+    public static <T, R> List<R> map(int parallelism, List<T> items, Function<? super T, ? extends R> function)
+    {
+        List<R> results = new ArrayList<>(items.size());
+        int threads = Math.min(parallelism, items.size());
+        if (threads <= 1)
+        {
+            for (T item : items)
+            {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        String namePrefix = "OpenWebBeans-boot-" + POOL_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r ->
+        {
+            Thread thread = new Thread(r, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(loader);
+            return thread;
+        });
+
+        try
+        {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items)
+            {
+                futures.add(executor.submit(() -> function.apply(item)));
+            }
+            for (Future<R> future : futures)
+            {
+                results.add(future.get());
+            }
+            return results;
+        }
+        catch (ExecutionException e)
+        {
+            throw ExceptionUtil.throwAsRuntimeException(e.getCause());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel boot tasks", e);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable character trie of String prefixes.
+ *
+ * <p>Checking a name against all prefixes costs a single walk over the characters
+ * of the name, regardless of how many prefixes there are.</p>
+ */
+public final class PrefixMatcher
+{
+    private final Node root = new Node();
+    private final int size;
+
+    public PrefixMatcher(Collection<String> prefixes)
+    {
+        for (String prefix : prefixes)
+        {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++)
+            {
+                node = node.getOrCreateChild(prefix.charAt(i));
+            }
+            node.end = true;
+        }
+        size = prefixes.size();
+    }
+
+    /**
+     * @return the number of prefixes this matcher got created with
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return whether one of the prefixes is a prefix of the given name
+     */
+    public boolean matches(String name)
+    {
+        return matches(name, 0);
+    }
+
+    /**
+     * @param minLength the minimum length a matching prefix must have
+     * @return whether one of the prefixes with at least the given length is a prefix of the given name
+     */
+    public boolean matches(String name, int minLength)
+    {
+        Node node = root;
+        for (int i = 0; ; i++)
+        {
+            if (node.end && i >= minLength)
+            {
+                return true;
+            }
+            if (i == name.length())
+            {
+                return false;
+            }
+            node = node.getChild(name.charAt(i));
+            if (node == null)
+            {
+                return false;
+            }
+        }
+    }
+
+    private static final class Node
+    {
+        /**
+         * sorted, only the first {@link #childCount} entries are used
+         */
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private boolean end;
+
+        private Node getChild(char c)
+        {
+            int idx = Arrays.binarySearch(keys, 0, childCount, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        private Node getOrCreateChild(char c)
+        {
+            int idx = Arrays.binarySearch(keys, 0, childCount, c);
+            if (idx >= 0)
+            {
+                return children[idx];
+            }
+
+            int insertAt = -idx - 1;
+            if (childCount == keys.length)
+            {
+                int newLength = Math.max(2, keys.length * 2);
+                keys = Arrays.copyOf(keys, newLength);
+                children = Arrays.copyOf(children, newLength);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+
+            Node child = new Node();
+            keys[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+    }
+}
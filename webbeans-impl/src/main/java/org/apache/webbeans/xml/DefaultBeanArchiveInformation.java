@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
+import org.apache.webbeans.util.PrefixMatcher;
 
 public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArchiveInformation
 {
@@ -41,6 +42,12 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
     private List<String> excludedPackages;
     private List<String> allowProxyingClasses = new ArrayList<>();
 
+    /**
+     * compiled versions of the excludes, they get created lazily as they are needed for every scanned class
+     */
+    private volatile PrefixMatcher excludedClassesMatcher;
+    private volatile PrefixMatcher excludedPackagesMatcher;
+
     public DefaultBeanArchiveInformation(String bdaUrl)
     {
         this.bdaUrl = bdaUrl;
@@ -61,52 +68,48 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
     @Override
     public boolean isClassExcluded(String clazz)
     {
-        boolean isExcluded = isPackageExcluded(clazz);
+        if (isPackageExcluded(clazz))
+        {
+            return true;
+        }
+        if (excludedClasses == null)
+        {
+            return false;
+        }
 
-        if  (!isExcluded && excludedClasses != null)
+        PrefixMatcher matcher = excludedClassesMatcher;
+        if (matcher == null || matcher.size() != excludedClasses.size())
         {
-            for (String excludedClass : excludedClasses)
-            {
-                if (clazz.startsWith(excludedClass))
-                {
-                    if (clazz.length() > excludedClass.length())
-                    {
-                        int lastDotPosition = clazz.lastIndexOf('.');
-                        if (lastDotPosition > excludedClass.length())
-                        {
-                            continue;
-                        }
-                    }
-                    isExcluded = true;
-                    break;
-                }
-            }
+            matcher = new PrefixMatcher(excludedClasses);
+            excludedClassesMatcher = matcher;
         }
 
-        return isExcluded;
+        // an exclude only matches classes of its own package, but not of sub packages
+        return matcher.matches(clazz, clazz.lastIndexOf('.'));
     }
 
     @Override
     public boolean isPackageExcluded(String packageName)
     {
-        if (excludedPackages != null)
+        if (excludedPackages == null)
+        {
+            return false;
+        }
+
+        PrefixMatcher matcher = excludedPackagesMatcher;
+        if (matcher == null || matcher.size() != excludedPackages.size())
         {
-            for (String excludedPackage : excludedPackages)
-            {
-                /*X TODO
-                 * For 'org.apache.foo.**'
-                 * the spec currently also excludes the package
-                 * 'org.apache.foobar'
-                 * Currently trying to clarify this.
-                 */
-                if (packageName.startsWith(excludedPackage))
-                {
-                    return true;
-                }
-            }
+            matcher = new PrefixMatcher(excludedPackages);
+            excludedPackagesMatcher = matcher;
         }
 
-        return false;
+        /*X TODO
+         * For 'org.apache.foo.**'
+         * the spec currently also excludes the package
+         * 'org.apache.foobar'
+         * Currently trying to clarify this.
+         */
+        return matcher.matches(packageName);
     }
 
     @Override
@@ -168,6 +171,7 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
         }
 
         excludedClasses.add(classOrPath);
+        excludedClassesMatcher = null;
     }
 
     public void addPackageExclude(String packageName)
@@ -178,6 +182,7 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
         }
 
         excludedPackages.add(packageName);
+        excludedPackagesMatcher = null;
     }
 
     public List<String> getExcludedClasses()
@@ -188,6 +193,7 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
     public void setExcludedClasses(List<String> excludedClasses)
     {
         this.excludedClasses = excludedClasses;
+        excludedClassesMatcher = null;
     }
 
     public List<String> getExcludedPackages()
@@ -198,6 +204,7 @@ public class DefaultBeanArchiveInformation implements BeanArchiveService.BeanArc
     public void setExcludedPackages(List<String> excludedPackages)
     {
         this.excludedPackages = excludedPackages;
+        excludedPackagesMatcher = null;
     }
 
     @Override
@@ -20,12 +20,26 @@ package org.apache.webbeans.xml;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import java.lang.ref.SoftReference;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,8 +56,6 @@ import org.apache.webbeans.util.UrlSet;
 import org.apache.webbeans.util.WebBeansConstants;
 import org.apache.xbean.finder.archive.FileArchive;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * Please note that this implementation is not thread safe.
@@ -56,6 +68,25 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     private static final Logger logger = WebBeansLoggerFacade.getLogger(BeanArchiveService.class);
 
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * Parsed beans.xml files of all containers in this JVM, so booting again
+     * (tests, redeployments) doesn't need to parse them again.
+     * Entries are softly referenced, so they never keep memory the JVM needs.
+     * key: service class name, beans.xml URL and content hash
+     */
+    private static final Map<String, SoftReference<BeanArchiveInformation>> PARSED_BEANS_XMLS
+        = Collections.synchronizedMap(new LinkedHashMap<String, SoftReference<BeanArchiveInformation>>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SoftReference<BeanArchiveInformation>> eldest)
+            {
+                return size() > PARSED_BEANS_XMLS_SIZE;
+            }
+        });
+    private static final int PARSED_BEANS_XMLS_SIZE = 256;
+
     /**
      * Contains a map from the URL externalForm to the stored BeanArchiveInformation
      */
@@ -63,6 +94,16 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     private UrlSet registeredBeanArchives = new UrlSet();
 
+    /**
+     * whether the last parsed beans.xml contained excludes which depend on the environment
+     */
+    private boolean conditionalBeansXml;
+
+    /**
+     * whether a subclass still customises the DOM parsing via {@link #getBeansRootElement(InputStream)}
+     */
+    private final boolean customBeansRootElement = overridesBeansRootElement(getClass());
+
 
     @Override
     public BeanArchiveInformation getBeanArchiveInformation(URL beanArchiveUrl)
@@ -222,34 +263,78 @@ public class DefaultBeanArchiveService implements BeanArchiveService
         }
 
 
-        InputStream xmlStream = null;
-        try
+        try (InputStream xmlStream = beansXmlUrl.openStream())
         {
-            xmlStream = beansXmlUrl.openStream();
+            byte[] content = readFully(xmlStream);
+
+            String cacheKey = getClass().getName() + '|' + beansXmlUrl.toExternalForm() + '|' + sha256(content);
+            SoftReference<BeanArchiveInformation> cached = PARSED_BEANS_XMLS.get(cacheKey);
+            BeanArchiveInformation cachedInfo = cached != null ? cached.get() : null;
+            if (cachedInfo != null)
+            {
+                return copy(cachedInfo, beansXmlUrl.toExternalForm());
+            }
 
-            return readBeansXml(xmlStream, beansXmlUrl.toExternalForm());
+            BeanArchiveInformation bdaInfo = readBeansXml(new ByteArrayInputStream(content), beansXmlUrl.toExternalForm());
 
+            // excludes depending on classes or system properties must get evaluated again
+            if (!conditionalBeansXml && bdaInfo instanceof DefaultBeanArchiveInformation)
+            {
+                PARSED_BEANS_XMLS.put(cacheKey, new SoftReference<>(copy(bdaInfo, bdaInfo.getBdaUrl())));
+            }
+            return bdaInfo;
         }
         catch (Exception e)
         {
             throw new WebBeansDeploymentException("Error while parsing the beans.xml file " + beansXmlLocation, e);
         }
-        finally
+    }
+
+    private DefaultBeanArchiveInformation copy(BeanArchiveInformation source, String bdaUrl)
+    {
+        DefaultBeanArchiveInformation copy = createBeanArchiveInformation(bdaUrl);
+        copy.setVersion(source.getVersion());
+        copy.setBeanDiscoveryMode(source.getBeanDiscoveryMode());
+        copy.getInterceptors().addAll(source.getInterceptors());
+        copy.getDecorators().addAll(source.getDecorators());
+        copy.getAlternativeClasses().addAll(source.getAlternativeClasses());
+        copy.getAlternativeStereotypes().addAll(source.getAlternativeStereotypes());
+        copy.setExcludedClasses(source.getExcludedClasses() == null ? null : new ArrayList<>(source.getExcludedClasses()));
+        copy.setExcludedPackages(source.getExcludedPackages() == null ? null : new ArrayList<>(source.getExcludedPackages()));
+        copy.getAllowProxyingClasses().addAll(source.getAllowProxyingClasses());
+        return copy;
+    }
+
+    private static String sha256(byte[] content)
+    {
+        try
         {
-            try
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
             {
-                if (xmlStream != null)
-                {
-                    xmlStream.close();
-                }
-            }
-            catch (IOException ioe)
-            {
-                throw new WebBeansDeploymentException("Error while closing the input stream!", ioe);
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
             }
+            return hex.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
         }
     }
 
+    private static byte[] readFully(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) >= 0)
+        {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * Get rid of any protocol header from the url externalForm
      * @param urlPath
@@ -284,6 +369,7 @@ public class DefaultBeanArchiveService implements BeanArchiveService
     protected BeanArchiveInformation readBeansXml(InputStream xmlStreamIn, String beansXmlLocation) throws IOException
     {
         DefaultBeanArchiveInformation bdaInfo = createBeanArchiveInformation(beansXmlLocation);
+        conditionalBeansXml = false;
 
         if (xmlStreamIn != null)
         {
@@ -301,29 +387,23 @@ public class DefaultBeanArchiveService implements BeanArchiveService
                 // put the first byte back on the stream so we can properly parse the XML.
                 xmlStream.unread(firstVal);
 
-                //Get root element of the XML document
-                Element webBeansRoot = getBeansRootElement(xmlStream);
-                if (webBeansRoot == null)
+                if (customBeansRootElement)
                 {
-                    bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
+                    Element root = getBeansRootElement(xmlStream);
+                    if (root == null)
+                    {
+                        bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
+                    }
+                    else
+                    {
+                        readBeansRootElement(bdaInfo, toStream(root), beansXmlLocation);
+                    }
                 }
                 else
                 {
-                    if (!"beans".equalsIgnoreCase(webBeansRoot.getLocalName()))
-                    {
-                        throw new WebBeansConfigurationException("beans.xml must have a <beans> root element, but has: " + webBeansRoot.getLocalName() +
-                                                                 " in " + beansXmlLocation);
-                    }
-
-                    bdaInfo.setVersion(getTrimmedAttribute(webBeansRoot, "version"));
-
-                    String beanDiscoveryMode = getTrimmedAttribute(webBeansRoot, "bean-discovery-mode");
-                    bdaInfo.setBeanDiscoveryMode(beanDiscoveryMode != null ? BeanDiscoveryMode.valueOf(beanDiscoveryMode.toUpperCase()) : null);
-
-                    readBeanChildren(bdaInfo, webBeansRoot, beansXmlLocation);
+                    readBeansRootElement(bdaInfo, xmlStream, beansXmlLocation);
                 }
 
-
                 if (bdaInfo.getVersion() != null && !"1.0".equals(bdaInfo.getVersion()) && bdaInfo.getBeanDiscoveryMode() == null)
                 {
                     throw new WebBeansConfigurationException("beans.xml with version 1.1 and higher must declare a bean-discovery-mode! url=" + beansXmlLocation);
@@ -347,202 +427,296 @@ public class DefaultBeanArchiveService implements BeanArchiveService
         return bdaInfo;
     }
 
-    private void readBeanChildren(DefaultBeanArchiveInformation bdaInfo, Element webBeansRoot, String beansXmlLocation)
+    private void readBeansRootElement(DefaultBeanArchiveInformation bdaInfo, InputStream xmlStream, String beansXmlLocation)
     {
-        ElementIterator elit = new ElementIterator(webBeansRoot);
-        while (elit.hasNext())
+        XMLStreamReader reader = null;
+        try
         {
-            Element child = elit.next();
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlStream);
+            if (!nextChildElement(reader))
+            {
+                // no root element
+                bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.ALL);
+                return;
+            }
 
-            if (WebBeansConstants.WEB_BEANS_XML_DECORATORS_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            if (!"beans".equalsIgnoreCase(reader.getLocalName()))
             {
-                fillDecorators(bdaInfo, child);
+                throw new WebBeansConfigurationException("beans.xml must have a <beans> root element, but has: " + reader.getLocalName() +
+                                                         " in " + beansXmlLocation);
+            }
+
+            bdaInfo.setVersion(getTrimmedAttribute(reader, "version"));
+
+            String beanDiscoveryMode = getTrimmedAttribute(reader, "bean-discovery-mode");
+            bdaInfo.setBeanDiscoveryMode(beanDiscoveryMode != null ? BeanDiscoveryMode.valueOf(beanDiscoveryMode.toUpperCase()) : null);
+
+            readBeanChildren(bdaInfo, reader, beansXmlLocation);
+        }
+        catch (XMLStreamException e)
+        {
+            logger.log(Level.SEVERE, OWBLogConst.FATAL_0002, e);
+            throw new WebBeansException(WebBeansLoggerFacade.getTokenString(OWBLogConst.EXCEPT_0013), e);
+        }
+        finally
+        {
+            if (reader != null)
+            {
+                try
+                {
+                    reader.close();
+                }
+                catch (XMLStreamException e)
+                {
+                    // the underlying stream gets closed by the caller
+                }
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_INTERCEPTORS_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+        }
+    }
+
+    private void readBeanChildren(DefaultBeanArchiveInformation bdaInfo, XMLStreamReader reader, String beansXmlLocation)
+            throws XMLStreamException
+    {
+        while (nextChildElement(reader))
+        {
+            String localName = reader.getLocalName();
+            if (WebBeansConstants.WEB_BEANS_XML_DECORATORS_ELEMENT.equalsIgnoreCase(localName))
             {
-                fillInterceptors(bdaInfo, child);
+                readClasses(reader, bdaInfo.getDecorators(), "decorators");
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_ALTERNATIVES_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            else if (WebBeansConstants.WEB_BEANS_XML_INTERCEPTORS_ELEMENT.equalsIgnoreCase(localName))
             {
-                fillAlternatives(bdaInfo, child);
+                readClasses(reader, bdaInfo.getInterceptors(), "interceptors");
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_SCAN_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            else if (WebBeansConstants.WEB_BEANS_XML_ALTERNATIVES_ELEMENT.equalsIgnoreCase(localName))
             {
-                fillExcludes(bdaInfo, child);
+                fillAlternatives(bdaInfo, reader);
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_ALLOW_PROXYING_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            else if (WebBeansConstants.WEB_BEANS_XML_SCAN_ELEMENT.equalsIgnoreCase(localName))
             {
-                fillAllowProxying(bdaInfo, child);
+                fillExcludes(bdaInfo, reader);
             }
-            else if (WebBeansConstants.WEB_BEANS_XML_SCOPED_BEANS_ONLY_ELEMENT.equalsIgnoreCase(child.getLocalName()))
+            else if (WebBeansConstants.WEB_BEANS_XML_ALLOW_PROXYING_ELEMENT.equalsIgnoreCase(localName))
             {
-                logger.log(Level.FINE, "trimmed bean archive detected: " + beansXmlLocation);
-                bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.TRIM);
+                readClasses(reader, bdaInfo.getAllowProxyingClasses(), "allowProxying");
             }
-        }
-    }
-
-    private void fillDecorators(DefaultBeanArchiveInformation bdaInfo, Element decoratorsElement)
-    {
-        ElementIterator elit = new ElementIterator(decoratorsElement);
-        while (elit.hasNext())
-        {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            else
             {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
+                if (WebBeansConstants.WEB_BEANS_XML_SCOPED_BEANS_ONLY_ELEMENT.equalsIgnoreCase(localName))
                 {
-                    throw new WebBeansConfigurationException("decorators <class> element must not be empty!");
+                    logger.log(Level.FINE, "trimmed bean archive detected: " + beansXmlLocation);
+                    bdaInfo.setBeanDiscoveryMode(BeanDiscoveryMode.TRIM);
                 }
-                bdaInfo.getDecorators().add(clazz);
+                skipElement(reader);
             }
         }
     }
 
-    private void fillInterceptors(DefaultBeanArchiveInformation bdaInfo, Element interceptorsElement)
+    /**
+     * Read all &lt;class&gt; children of the current element.
+     */
+    private void readClasses(XMLStreamReader reader, List<String> classes, String elementName) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(interceptorsElement);
-        while (elit.hasNext())
+        while (nextChildElement(reader))
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(reader.getLocalName()))
             {
-                String clazz = child.getTextContent().trim();
+                String clazz = readText(reader);
                 if (clazz.isEmpty())
                 {
-                    throw new WebBeansConfigurationException("interceptors <class> element must not be empty!");
+                    throw new WebBeansConfigurationException(elementName + " <class> element must not be empty!");
                 }
-                bdaInfo.getInterceptors().add(clazz);
+                classes.add(clazz);
+            }
+            else
+            {
+                skipElement(reader);
             }
         }
     }
 
-    private void fillAlternatives(DefaultBeanArchiveInformation bdaInfo, Element alternativesElement)
+    private void fillAlternatives(DefaultBeanArchiveInformation bdaInfo, XMLStreamReader reader) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(alternativesElement);
-        while (elit.hasNext())
+        while (nextChildElement(reader))
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            String localName = reader.getLocalName();
+            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(localName))
             {
-                String clazz = child.getTextContent().trim();
+                String clazz = readText(reader);
                 if (clazz.isEmpty())
                 {
                     throw new WebBeansConfigurationException("alternatives <class> element must not be empty!");
                 }
                 bdaInfo.getAlternativeClasses().add(clazz);
             }
-            if (WebBeansConstants.WEB_BEANS_XML_STEREOTYPE.equalsIgnoreCase(child.getLocalName()))
+            else if (WebBeansConstants.WEB_BEANS_XML_STEREOTYPE.equalsIgnoreCase(localName))
             {
-                String stereotype = child.getTextContent().trim();
+                String stereotype = readText(reader);
                 if (stereotype.isEmpty())
                 {
                     throw new WebBeansConfigurationException("alternatives <stereotype> element must not be empty!");
                 }
                 bdaInfo.getAlternativeStereotypes().add(stereotype);
             }
+            else
+            {
+                skipElement(reader);
+            }
         }
     }
 
 
-    private void fillExcludes(DefaultBeanArchiveInformation bdaInfo, Element scanElement)
+    private void fillExcludes(DefaultBeanArchiveInformation bdaInfo, XMLStreamReader reader) throws XMLStreamException
     {
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        NodeList childNodes = scanElement.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++)
+        while (nextChildElement(reader))
         {
-            Node nd = childNodes.item(i);
-            if (!Element.class.isInstance(nd))
+            if (!WebBeansConstants.WEB_BEANS_XML_EXCLUDE.equalsIgnoreCase(reader.getLocalName()))
             {
+                skipElement(reader);
                 continue;
             }
 
-            Element child = Element.class.cast(nd);
-            if (WebBeansConstants.WEB_BEANS_XML_EXCLUDE.equalsIgnoreCase(child.getLocalName()))
+            String name = getTrimmedAttribute(reader, "name");
+            if (name == null)
             {
-                String name = getTrimmedAttribute(child, "name");
-                NodeList children = child.getChildNodes();
-                boolean skip = false;
-                for (int j = 0; j < children.getLength(); j++)
-                {
-                    Node ndChild = children.item(j);
-                    if (!Element.class.isInstance(ndChild))
-                    {
-                        continue;
-                    }
-
-                    Element condition = Element.class.cast(ndChild);
+                throw new WebBeansConfigurationException("<exclude> element must have a name attribute!");
+            }
 
-                    String localName = condition.getLocalName();
-                    if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_AVAILABLE.equalsIgnoreCase(localName))
-                    {
-                        if (!isClassAvailable(loader, getTrimmedAttribute(condition, "name")))
-                        {
-                            skip = true;
-                            break;
-                        }
-                    }
-                    else if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_NOT_AVAILABLE.equalsIgnoreCase(localName))
-                    {
-                        if (isClassAvailable(loader, getTrimmedAttribute(condition, "name")))
-                        {
-                            skip = true;
-                            break;
-                        }
-                    }
-                    else if (WebBeansConstants.WEB_BEANS_XML_IF_SYSTEM_PROPERTY.equalsIgnoreCase(localName))
-                    {
-                        String value = getTrimmedAttribute(condition, "value");
-                        String systProp = System.getProperty(getTrimmedAttribute(condition, "name"));
-                        if ((value == null && systProp == null) || !(value != null && value.equals(systProp)))
-                        {
-                            skip = true;
-                            break;
-                        }
-                    }
-                }
+            boolean skip = false;
+            while (nextChildElement(reader))
+            {
+                String localName = reader.getLocalName();
                 if (skip)
                 {
-                    continue;
+                    // the outcome is clear already
                 }
-                if (name.endsWith(".*"))
+                else if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_AVAILABLE.equalsIgnoreCase(localName))
                 {
-                    // package exclude without sub-packages
-                    bdaInfo.addClassExclude(name.substring(0, name.length() - 2));
+                    conditionalBeansXml = true;
+                    skip = !isClassAvailable(loader, getTrimmedAttribute(reader, "name"));
                 }
-                else if (name.endsWith(".**"))
+                else if (WebBeansConstants.WEB_BEANS_XML_IF_CLASS_NOT_AVAILABLE.equalsIgnoreCase(localName))
                 {
-                    // package exclude WITH sub-packages
-                    bdaInfo.addPackageExclude(name.substring(0, name.length() - 3));
+                    conditionalBeansXml = true;
+                    skip = isClassAvailable(loader, getTrimmedAttribute(reader, "name"));
                 }
-                else
+                else if (WebBeansConstants.WEB_BEANS_XML_IF_SYSTEM_PROPERTY.equalsIgnoreCase(localName))
                 {
-                    // a simple Class
-                    bdaInfo.addClassExclude(name);
+                    conditionalBeansXml = true;
+                    String value = getTrimmedAttribute(reader, "value");
+                    String systProp = System.getProperty(getTrimmedAttribute(reader, "name"));
+                    skip = (value == null && systProp == null) || !(value != null && value.equals(systProp));
                 }
+                skipElement(reader);
+            }
+            if (skip)
+            {
+                continue;
+            }
+            if (name.endsWith(".*"))
+            {
+                // package exclude without sub-packages
+                bdaInfo.addClassExclude(name.substring(0, name.length() - 2));
+            }
+            else if (name.endsWith(".**"))
+            {
+                // package exclude WITH sub-packages
+                bdaInfo.addPackageExclude(name.substring(0, name.length() - 3));
+            }
+            else
+            {
+                // a simple Class
+                bdaInfo.addClassExclude(name);
             }
         }
     }
 
-    private void fillAllowProxying(DefaultBeanArchiveInformation bdaInfo, Element allowProxyingElement)
+    /**
+     * Move to the next direct child element of the current element.
+     *
+     * @return {@code false} if the current element got closed instead
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException
     {
-        ElementIterator elit = new ElementIterator(allowProxyingElement);
-        while (elit.hasNext())
+        while (reader.hasNext())
         {
-            Element child = elit.next();
-            if (WebBeansConstants.WEB_BEANS_XML_CLASS.equalsIgnoreCase(child.getLocalName()))
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
             {
-                String clazz = child.getTextContent().trim();
-                if (clazz.isEmpty())
-                {
-                    throw new WebBeansConfigurationException("allowProxying <class> element must not be empty!");
-                }
-                bdaInfo.getAllowProxyingClasses().add(clazz);
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                return false;
             }
         }
+        return false;
     }
 
+    /**
+     * Consume the current element including all of its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException
+    {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext())
+        {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Consume the current element and return the trimmed text of it and all of its children.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException
+    {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext())
+        {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                depth++;
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
+            }
+            else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE)
+            {
+                text.append(reader.getText());
+            }
+        }
+        return text.toString().trim();
+    }
+
+    /**
+     * @return the trimmed attribute value of the current element, or <code>null</code> if the attribute does not exist or is empty
+     */
+    private static String getTrimmedAttribute(XMLStreamReader reader, String attributeName)
+    {
+        String val = reader.getAttributeValue(null, attributeName);
+        if (val != null)
+        {
+            val = val.trim();
+            if (!val.isEmpty())
+            {
+                return val;
+            }
+        }
+        return null;
+    }
 
 
     private static boolean isClassAvailable(ClassLoader loader, String name)
@@ -568,11 +742,14 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     /**
      * Gets the root element of the parsed document.
+     * Only gets used if a subclass overrides it, otherwise the beans.xml gets read with StAX.
      *
      * @param xmlStream parsed document
      * @return root element of the document
      * @throws org.apache.webbeans.exception.WebBeansException if any runtime exception occurs
+     * @deprecated beans.xml files get read with StAX now, overriding this method costs a DOM per beans.xml
      */
+    @Deprecated
     protected Element getBeansRootElement(InputStream xmlStream) throws WebBeansException
     {
         try
@@ -600,7 +777,9 @@ public class DefaultBeanArchiveService implements BeanArchiveService
 
     /**
      * @return the trimmed attribute value, or <code>null</code> if the attribute does not exist or the attribute is empty
+     * @deprecated beans.xml files get read with StAX now, this method is not used anymore
      */
+    @Deprecated
     protected String getTrimmedAttribute(Element element, String attributeName)
     {
         String val = element.getAttribute(attributeName);
@@ -615,5 +794,48 @@ public class DefaultBeanArchiveService implements BeanArchiveService
         return null;
     }
 
+    /**
+     * Serializes the root element of a subclass, so it gets read the same way as any other beans.xml.
+     */
+    private static InputStream toStream(Element root)
+    {
+        try
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            TransformerFactory.newInstance().newTransformer().transform(new DOMSource(root), new StreamResult(out));
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+        catch (Exception e)
+        {
+            throw new WebBeansException(WebBeansLoggerFacade.getTokenString(OWBLogConst.EXCEPT_0013), e);
+        }
+    }
+
+    private static boolean overridesBeansRootElement(Class<?> clazz)
+    {
+        for (Class<?> current = clazz; current != DefaultBeanArchiveService.class; current = current.getSuperclass())
+        {
+            try
+            {
+                current.getDeclaredMethod("getBeansRootElement", InputStream.class);
+                return true;
+            }
+            catch (NoSuchMethodException e)
+            {
+                // not overridden on this level
+            }
+        }
+        return false;
+    }
 
+    private static XMLInputFactory createXmlInputFactory()
+    {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_VALIDATING, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class PackageVetoesTest
+{
+    @Test
+    public void everyPackageGetsReadOnce()
+    {
+        Map<String, Integer> reads = new HashMap<>();
+        PackageVetoes vetoes = new PackageVetoes()
+        {
+            @Override
+            boolean readVeto(String packageName, ClassLoader classLoader)
+            {
+                reads.merge(packageName, 1, Integer::sum);
+                return super.readVeto(packageName, classLoader);
+            }
+        };
+        ClassLoader loader = getClass().getClassLoader();
+
+        assertFalse(vetoes.isVetoed("org.apache.webbeans.config", loader));
+        assertFalse(vetoes.isVetoed("org.apache.webbeans.config", loader));
+        assertFalse(vetoes.isVetoed("org.apache.webbeans.container", loader));
+
+        assertEquals(5, reads.size());
+        for (Map.Entry<String, Integer> read : reads.entrySet())
+        {
+            assertEquals(read.getKey(), Integer.valueOf(1), read.getValue());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.container;
+
+import org.apache.webbeans.component.OwbBean;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.apache.webbeans.test.bean.SerializableBeanEqualTest;
+import org.junit.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.inject.spi.Bean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ContextualMapTest extends AbstractUnitTest
+{
+    @Test
+    public void ordinalsGetAssigned()
+    {
+        startContainer(AppBean.class, ReqBean.class);
+
+        OwbBean<?> appBean = (OwbBean<?>) getBean(AppBean.class);
+        OwbBean<?> reqBean = (OwbBean<?>) getBean(ReqBean.class);
+
+        assertTrue(appBean.getOrdinal() >= 0);
+        assertTrue(reqBean.getOrdinal() >= 0);
+        assertNotEquals(appBean.getOrdinal(), reqBean.getOrdinal());
+    }
+
+    @Test
+    public void mapOperations()
+    {
+        startContainer(AppBean.class, ReqBean.class);
+
+        Bean<AppBean> appBean = getBean(AppBean.class);
+        Bean<ReqBean> reqBean = getBean(ReqBean.class);
+        Contextual<?> serializableAppBean = getWebBeansContext().getSerializableBeanVault().getSerializableBean(appBean);
+
+        ContextualMap<String> map = new ContextualMap<>();
+        assertNull(map.put(appBean, "app"));
+        assertNull(map.putIfAbsent(reqBean, "req"));
+        assertEquals("req", map.putIfAbsent(reqBean, "other"));
+
+        assertEquals(2, map.size());
+        assertEquals("app", map.get(appBean));
+        assertEquals("app", map.get(serializableAppBean));
+        assertEquals("req", map.get(reqBean));
+
+        Set<Contextual<?>> keys = new HashSet<>();
+        for (Map.Entry<Contextual<?>, String> entry : map.entrySet())
+        {
+            keys.add(entry.getKey());
+        }
+        assertEquals(2, keys.size());
+
+        assertEquals("app", map.remove(appBean));
+        assertNull(map.get(appBean));
+        assertEquals(1, map.size());
+
+        assertNull(map.put(appBean, "again"));
+        assertEquals("again", map.get(appBean));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void lazyTable()
+    {
+        ContextualMap<String> map = new ContextualMap<>();
+        OwbBean<?> bean = new OrdinalContextual(5);
+
+        assertNull(map.get(bean));
+        assertNull(map.remove(bean));
+        assertTrue(map.isEmpty());
+        assertTrue(map.entrySet().isEmpty());
+
+        assertNull(map.put(bean, "first"));
+        assertEquals("first", map.get(bean));
+
+        map.clear();
+        assertNull(map.get(bean));
+        assertNull(map.putIfAbsent(bean, "second"));
+        assertEquals("second", map.get(bean));
+    }
+
+    @Test
+    public void resize()
+    {
+        ContextualMap<Integer> map = new ContextualMap<>();
+        List<OwbBean<?>> beans = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            OwbBean<?> bean = new OrdinalContextual(i * 3);
+            beans.add(bean);
+            map.put(bean, i);
+        }
+
+        assertEquals(100, map.size());
+        int i = 0;
+        for (OwbBean<?> bean : beans)
+        {
+            assertEquals(Integer.valueOf(bean.getOrdinal() / 3), map.get(bean));
+            if (i++ % 2 == 0)
+            {
+                map.remove(bean);
+            }
+        }
+        assertEquals(50, map.size());
+        assertEquals(50, map.entrySet().size());
+    }
+
+    @Test
+    public void sameOrdinalOfAnotherBeanManager()
+    {
+        ContextualMap<String> map = new ContextualMap<>();
+        OwbBean<?> bean = new OrdinalContextual(7);
+        OwbBean<?> foreignBean = new OrdinalContextual(7);
+
+        assertNull(map.put(bean, "own"));
+        assertNull(map.get(foreignBean));
+        assertNull(map.put(foreignBean, "foreign"));
+        assertEquals("own", map.get(bean));
+        assertEquals("foreign", map.get(foreignBean));
+        assertEquals(2, map.size());
+
+        assertEquals("own", map.remove(bean));
+        assertNull(map.get(bean));
+        assertEquals("foreign", map.get(foreignBean));
+
+        assertNull(map.put(bean, "again"));
+        assertEquals("again", map.get(bean));
+        assertEquals("foreign", map.remove(foreignBean));
+        assertEquals(1, map.size());
+    }
+
+    @ApplicationScoped
+    public static class AppBean
+    {
+    }
+
+    @RequestScoped
+    public static class ReqBean
+    {
+    }
+
+    private static class OrdinalContextual extends SerializableBeanEqualTest.MyContextual<Object>
+    {
+        private final int ordinal;
+
+        private OrdinalContextual(int ordinal)
+        {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public int getOrdinal()
+        {
+            return ordinal;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(this);
+        }
+    }
+}
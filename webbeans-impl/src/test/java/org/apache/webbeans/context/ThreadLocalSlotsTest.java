@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ThreadLocalSlotsTest
+{
+    @Test
+    public void slotsAreIndependent()
+    {
+        ThreadLocalSlots slots = new ThreadLocalSlots(2);
+        ThreadLocal<String> first = slots.newSlot();
+        ThreadLocal<String> second = slots.newSlot();
+
+        assertNull(first.get());
+        first.set("a");
+        second.set("b");
+        assertEquals("a", first.get());
+        assertEquals("b", second.get());
+
+        first.remove();
+        assertNull(first.get());
+        assertEquals("b", second.get());
+
+        second.set(null);
+        assertNull(second.get());
+    }
+
+    @Test
+    public void slotsAreBoundToTheThread() throws InterruptedException
+    {
+        ThreadLocalSlots slots = new ThreadLocalSlots(1);
+        ThreadLocal<String> slot = slots.newSlot();
+        slot.set("main");
+
+        String[] seen = new String[1];
+        Thread thread = new Thread(() -> seen[0] = slot.get());
+        thread.start();
+        thread.join();
+
+        assertNull(seen[0]);
+        assertEquals("main", slot.get());
+        slot.remove();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void limitedNumberOfSlots()
+    {
+        ThreadLocalSlots slots = new ThreadLocalSlots(1);
+        slots.newSlot();
+        slots.newSlot();
+    }
+}
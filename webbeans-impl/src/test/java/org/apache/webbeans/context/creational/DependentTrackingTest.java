@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context.creational;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.spi.Bean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DependentTrackingTest extends AbstractUnitTest
+{
+    @Test
+    public void trackAndDestroyDependents()
+    {
+        startContainer(DepBean.class);
+        DepBean.DESTROYED.set(0);
+
+        Bean<DepBean> bean = getBean(DepBean.class);
+        CreationalContextFactory<?> factory = getWebBeansContext().getCreationalContextFactory();
+        long unreleased = factory.getUnreleasedDependentCount();
+
+        CreationalContextImpl<?> parent = (CreationalContextImpl<?>) getBeanManager().createCreationalContext(null);
+        List<DepBean> instances = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            DepBean instance = bean.create(getBeanManager().createCreationalContext(bean));
+            parent.addDependent(bean, instance);
+            instances.add(instance);
+        }
+        assertEquals(unreleased + 1000, factory.getUnreleasedDependentCount());
+        assertTrue(parent.containsDependent(bean, instances.get(500)));
+        assertFalse(parent.containsDependent(bean, new DepBean()));
+
+        parent.release();
+        assertEquals(1000, DepBean.DESTROYED.get());
+        assertFalse(parent.containsDependent(bean, instances.get(1)));
+        assertEquals(unreleased, factory.getUnreleasedDependentCount());
+    }
+
+    @Test
+    public void destroySingleDependent()
+    {
+        startContainer(DepBean.class);
+        DepBean.DESTROYED.set(0);
+
+        Bean<DepBean> bean = getBean(DepBean.class);
+        CreationalContextFactory<?> factory = getWebBeansContext().getCreationalContextFactory();
+        long unreleased = factory.getUnreleasedDependentCount();
+
+        // like Instance#destroy: one CreationalContext per instance
+        CreationalContextImpl<?> owner = (CreationalContextImpl<?>) getBeanManager().createCreationalContext(null);
+        DepBean instance = bean.create(getBeanManager().createCreationalContext(bean));
+        owner.addDependent(bean, instance);
+        assertEquals(unreleased + 1, factory.getUnreleasedDependentCount());
+
+        owner.destroyDependent(instance);
+        assertEquals(1, DepBean.DESTROYED.get());
+        assertFalse(owner.containsDependent(bean, instance));
+        assertEquals(unreleased, factory.getUnreleasedDependentCount());
+    }
+
+    @Test
+    public void destroyDependentsInReverseOrder()
+    {
+        startContainer(DepBean.class);
+        DepBean.DESTROY_ORDER.clear();
+
+        Bean<DepBean> bean = getBean(DepBean.class);
+        CreationalContextImpl<?> parent = (CreationalContextImpl<?>) getBeanManager().createCreationalContext(null);
+        List<DepBean> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+        {
+            DepBean instance = bean.create(getBeanManager().createCreationalContext(bean));
+            parent.addDependent(bean, instance);
+            instances.add(0, instance);
+        }
+
+        parent.release();
+        assertEquals(instances, DepBean.DESTROY_ORDER);
+    }
+
+    @Dependent
+    public static class DepBean
+    {
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+        static final List<DepBean> DESTROY_ORDER = Collections.synchronizedList(new ArrayList<>());
+
+        @PreDestroy
+        public void destroy()
+        {
+            DESTROYED.incrementAndGet();
+            DESTROY_ORDER.add(this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.context.creational;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+import javax.enterprise.inject.spi.EventMetadata;
+import javax.enterprise.inject.spi.InjectionPoint;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MetadataStackTest extends AbstractUnitTest
+{
+    @Test
+    public void injectionPointStack()
+    {
+        startContainer();
+
+        CreationalContextImpl<?> creationalContext = (CreationalContextImpl<?>) getBeanManager().createCreationalContext(null);
+        assertNull(creationalContext.getInjectionPoint());
+        assertNull(creationalContext.removeInjectionPoint());
+
+        InjectionPoint[] injectionPoints = new InjectionPoint[10];
+        for (int i = 0; i < injectionPoints.length; i++)
+        {
+            injectionPoints[i] = dummy(InjectionPoint.class);
+            creationalContext.putInjectionPoint(injectionPoints[i]);
+            assertSame(injectionPoints[i], creationalContext.getInjectionPoint());
+        }
+
+        for (int i = injectionPoints.length - 1; i >= 0; i--)
+        {
+            assertSame(injectionPoints[i], creationalContext.removeInjectionPoint());
+        }
+        assertNull(creationalContext.getInjectionPoint());
+        assertNull(creationalContext.removeInjectionPoint());
+    }
+
+    @Test
+    public void eventMetadataStack()
+    {
+        startContainer();
+
+        CreationalContextImpl<?> creationalContext = (CreationalContextImpl<?>) getBeanManager().createCreationalContext(null);
+        EventMetadata outer = dummy(EventMetadata.class);
+        EventMetadata inner = dummy(EventMetadata.class);
+
+        creationalContext.putEventMetadata(outer);
+        creationalContext.putEventMetadata(inner);
+        assertSame(inner, creationalContext.getEventMetadata());
+        assertSame(inner, creationalContext.removeEventMetadata());
+        assertSame(outer, creationalContext.getEventMetadata());
+        assertSame(outer, creationalContext.removeEventMetadata());
+        assertNull(creationalContext.getEventMetadata());
+    }
+
+    private static <T> T dummy(Class<T> type)
+    {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> null));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+
+import org.junit.Test;
+
+public class BeanCandidateFilterTest
+{
+    private final BeanCandidateFilter filter = new BeanCandidateFilter(getClass().getClassLoader(), false);
+
+    @Test
+    public void testCandidates() throws IOException
+    {
+        assertTrue(isCandidate(PlainBean.class));
+        assertTrue(isCandidate(InjectConstructorBean.class));
+        assertTrue(isCandidate(AbstractDecorator.class));
+        assertTrue(isCandidate(MyQualifier.class));
+    }
+
+    @Test
+    public void testNonBeans() throws IOException
+    {
+        assertFalse(isCandidate(VetoedBean.class));
+        assertFalse(isCandidate(AbstractBean.class));
+        assertFalse(isCandidate(SomeInterface.class));
+        assertFalse(isCandidate(InnerBean.class));
+        assertFalse(isCandidate(NoSuitableConstructor.class));
+    }
+
+    @Test
+    public void testKeepVetoed() throws IOException
+    {
+        BeanCandidateFilter keepVetoed = new BeanCandidateFilter(getClass().getClassLoader(), true);
+        try (InputStream bytecode = bytecode(VetoedBean.class))
+        {
+            assertTrue(keepVetoed.isCandidate(bytecode));
+        }
+    }
+
+    @Test
+    public void testIndexedClasses()
+    {
+        assertTrue(filter.isCandidate(PlainBean.class.getName(), Collections.<String>emptyList()));
+        assertFalse(filter.isCandidate(VetoedBean.class.getName(), Collections.singletonList(Vetoed.class.getName())));
+    }
+
+    private boolean isCandidate(Class<?> clazz) throws IOException
+    {
+        try (InputStream bytecode = bytecode(clazz))
+        {
+            return filter.isCandidate(bytecode);
+        }
+    }
+
+    private static InputStream bytecode(Class<?> clazz)
+    {
+        return clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+    }
+
+    public static class PlainBean
+    {
+    }
+
+    public static class InjectConstructorBean
+    {
+        @Inject
+        public InjectConstructorBean(PlainBean plainBean)
+        {
+            // injected
+        }
+    }
+
+    @Decorator
+    public abstract static class AbstractDecorator implements SomeInterface
+    {
+        @Inject
+        @Delegate
+        private SomeInterface delegate;
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface MyQualifier
+    {
+    }
+
+    @Vetoed
+    public static class VetoedBean
+    {
+    }
+
+    public abstract static class AbstractBean
+    {
+    }
+
+    public interface SomeInterface
+    {
+    }
+
+    public class InnerBean
+    {
+    }
+
+    public static class NoSuitableConstructor
+    {
+        public NoSuitableConstructor(String value)
+        {
+            // not injectable
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScanSnapshotTest
+{
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        Map<String, List<String>> classes = new LinkedHashMap<>();
+        classes.put("file:/app/classes/", Arrays.asList("org.acme.A", "org.acme.B"));
+        classes.put("file:/app/lib/beans.jar", Collections.<String>emptyList());
+
+        File file = new File(temp.getRoot(), "snapshot/scan.bin");
+        assertNull(ScanSnapshot.read(file));
+
+        new ScanSnapshot("1234", classes).write(file);
+
+        ScanSnapshot snapshot = ScanSnapshot.read(file);
+        assertNotNull(snapshot);
+        assertEquals("1234", snapshot.getFingerprint());
+        assertEquals(classes, snapshot.getClassNamesPerArchive());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidSnapshot() throws IOException
+    {
+        File file = temp.newFile("scan.bin");
+        Files.write(file.toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        ScanSnapshot.read(file);
+    }
+
+    @Test
+    public void testFingerprint() throws IOException
+    {
+        File classesDir = temp.newFolder("classes");
+        Files.write(new File(classesDir, "A.class").toPath(), new byte[] {1, 2, 3});
+        URL classesUrl = classesDir.toURI().toURL();
+        Map<String, URL> deploymentUrls = Collections.singletonMap(classesUrl.toExternalForm(), classesUrl);
+        List<String> settings = Collections.singletonList("setting");
+
+        String fingerprint = ScanSnapshot.fingerprint(deploymentUrls, settings);
+        assertNotNull(fingerprint);
+        assertEquals(fingerprint, ScanSnapshot.fingerprint(deploymentUrls, settings));
+        assertNotEquals(fingerprint, ScanSnapshot.fingerprint(deploymentUrls, Collections.singletonList("other")));
+
+        Files.write(new File(classesDir, "B.class").toPath(), new byte[] {4});
+        assertNotEquals(fingerprint, ScanSnapshot.fingerprint(deploymentUrls, settings));
+    }
+
+    @Test
+    public void testNoFingerprintForRemoteArchives() throws IOException
+    {
+        URL remote = new URL("http://localhost/beans.jar");
+        assertNull(ScanSnapshot.fingerprint(Collections.singletonMap(remote.toExternalForm(), remote), Collections.<String>emptyList()));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.corespi.scanner.xbean;
+
+import org.apache.xbean.finder.archive.ClassesArchive;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class OwbAnnotationFinderTest
+{
+    @Test
+    public void testClassInMultiplePartsGetsMergedOnce()
+    {
+        OwbAnnotationFinder first = new OwbAnnotationFinder(new ClassesArchive(Duplicated.class, Other.class));
+        OwbAnnotationFinder second = new OwbAnnotationFinder(new ClassesArchive(Duplicated.class));
+
+        OwbAnnotationFinder finder = new OwbAnnotationFinder(
+            new ClassesArchive(Duplicated.class, Other.class), Arrays.asList(first, second));
+
+        Assert.assertEquals(Collections.singletonList(Duplicated.class), finder.findAnnotatedClasses(ApplicationScoped.class));
+        Assert.assertEquals(Collections.singletonList(Other.class), finder.findAnnotatedClasses(RequestScoped.class));
+        Assert.assertEquals(1, finder.findAnnotatedFields(Inject.class).size());
+        Assert.assertEquals(1, finder.findAnnotatedMethods(Inject.class).size());
+        Assert.assertSame(first.getClassInfo(Duplicated.class.getName()), finder.getClassInfo(Duplicated.class.getName()));
+    }
+
+    @ApplicationScoped
+    public static class Duplicated
+    {
+        @Inject
+        private Other other;
+
+        @Inject
+        public void init(Other other)
+        {
+            this.other = other;
+        }
+    }
+
+    @RequestScoped
+    public static class Other
+    {
+    }
+}
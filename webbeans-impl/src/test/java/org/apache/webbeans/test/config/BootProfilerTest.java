@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import org.apache.webbeans.config.BootProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.inject.spi.Extension;
+
+public class BootProfilerTest
+{
+    @Test
+    public void testJson()
+    {
+        BootProfiler profiler = new BootProfiler(true);
+        profiler.begin("scan");
+        profiler.count("beanClasses", 3);
+        profiler.count("beanClasses", 2);
+        profiler.begin("validation");
+        profiler.observer(MyExtension.class, "javax.enterprise.inject.spi.ProcessAnnotatedType<?>", 1000);
+        profiler.observer(MyExtension.class, "javax.enterprise.inject.spi.ProcessAnnotatedType<?>", 2000);
+        profiler.end();
+
+        String json = profiler.toJson();
+        Assert.assertTrue(json, json.startsWith("{\"phases\":[{\"name\":\"scan\",\"ms\":"));
+        Assert.assertTrue(json, json.contains("{\"name\":\"validation\",\"ms\":"));
+        Assert.assertTrue(json, json.contains("\"counters\":{\"beanClasses\":5}"));
+        Assert.assertTrue(json, json.contains("\"observers\":[{\"extension\":\"" + MyExtension.class.getName() + "\"," +
+                "\"event\":\"javax.enterprise.inject.spi.ProcessAnnotatedType<?>\",\"invocations\":2,\"ms\":0}]"));
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        BootProfiler profiler = new BootProfiler(false);
+        profiler.begin("scan");
+        profiler.count("beanClasses", 3);
+        profiler.observer(MyExtension.class, "\"quoted\"", 1000);
+        Assert.assertEquals("{\"phases\":[],\"totalMs\":0,\"counters\":{},\"observers\":[]}", profiler.toJson());
+    }
+
+    public static class MyExtension implements Extension
+    {
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.config;
+
+import org.apache.webbeans.component.InjectionTargetBean;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.config.RetainedHeapReport;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.apache.webbeans.util.CollectionUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.spi.AnnotatedField;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class CompactAfterBootTest extends AbstractUnitTest
+{
+    @Test
+    public void testCompactAfterBoot()
+    {
+        try
+        {
+            System.setProperty(OpenWebBeansConfiguration.COMPACT_AFTER_BOOT, "true");
+            startContainer(Greeter.class, Name.class);
+        }
+        finally
+        {
+            System.clearProperty(OpenWebBeansConfiguration.COMPACT_AFTER_BOOT);
+        }
+
+        Assert.assertEquals("Hello World", getInstance(Greeter.class).greet());
+
+        AnnotatedType<?> annotatedType = ((InjectionTargetBean<?>) getBean(Greeter.class)).getAnnotatedType();
+        Assert.assertTrue(annotatedType.isAnnotationPresent(ApplicationScoped.class));
+        Assert.assertTrue(annotatedType.getTypeClosure().contains(Greeter.class));
+        for (AnnotatedField<?> field : annotatedType.getFields())
+        {
+            Assert.assertTrue(field.isAnnotationPresent(Inject.class));
+        }
+    }
+
+    @Test
+    public void testRetainedHeapReport()
+    {
+        startContainer(Greeter.class, Name.class);
+
+        Map<String, Long> retainedBytes = RetainedHeapReport.measure(getWebBeansContext());
+        Assert.assertTrue(retainedBytes.get("beanManager") > 0);
+        Assert.assertTrue(retainedBytes.containsKey("scannerService"));
+
+        String json = RetainedHeapReport.toJson(retainedBytes);
+        Assert.assertTrue(json, json.startsWith("{\"beanManager\":"));
+        Assert.assertTrue(json, json.contains(",\"total\":"));
+    }
+
+    @Test
+    public void testRetainedHeapReportStopsAtContextualInstances()
+    {
+        startContainer(Payload.class);
+        Assert.assertEquals(1 << 20, getInstance(Payload.class).size());
+
+        Map<String, Long> retainedBytes = RetainedHeapReport.measure(getWebBeansContext());
+        Assert.assertTrue(retainedBytes.toString(), retainedBytes.get("contextsService") < 1 << 20);
+    }
+
+    @Test
+    public void testCompactSet()
+    {
+        Assert.assertEquals(Collections.emptySet(), CollectionUtil.compactSet(new HashSet<>()));
+        Assert.assertEquals(Collections.singleton("a"), CollectionUtil.compactSet(new HashSet<>(Arrays.asList("a"))));
+
+        Set<String> compact = CollectionUtil.compactSet(new HashSet<>(Arrays.asList("a", "b", "c")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), compact);
+    }
+
+    @Test
+    public void testCompactedSetsStayMutable()
+    {
+        Set<String> empty = CollectionUtil.compactSet(new HashSet<>());
+        Assert.assertTrue(empty.add("a"));
+
+        Set<String> single = CollectionUtil.compactSet(new HashSet<>(Arrays.asList("a")));
+        Assert.assertTrue(single.add("b"));
+        single.clear();
+        Assert.assertTrue(single.isEmpty());
+    }
+
+    @ApplicationScoped
+    public static class Greeter
+    {
+        @Inject
+        private Name name;
+
+        public String greet()
+        {
+            return "Hello " + name.get();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Payload
+    {
+        private final byte[] bytes = new byte[1 << 20];
+
+        public int size()
+        {
+            return bytes.length;
+        }
+    }
+
+    @RequestScoped
+    public static class Name
+    {
+        public String get()
+        {
+            return "World";
+        }
+    }
+}
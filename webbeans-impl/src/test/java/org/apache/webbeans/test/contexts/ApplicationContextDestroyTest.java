@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.contexts;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A destroyed &#064;ApplicationScoped instance must not stay published,
+ * even if it got looked up again while it got destroyed.
+ */
+public class ApplicationContextDestroyTest extends AbstractUnitTest
+{
+    @Test
+    public void testPreDestroyLooksUpItself()
+    {
+        startContainer(SelfLookupBean.class);
+
+        SelfLookupBean proxy = getInstance(SelfLookupBean.class);
+        int firstId = proxy.getId();
+
+        Bean<SelfLookupBean> bean = getBean(SelfLookupBean.class);
+        AlterableContext context = (AlterableContext) getBeanManager().getContext(ApplicationScoped.class);
+        context.destroy(bean);
+
+        Assert.assertEquals(firstId, SelfLookupBean.LAST_DESTROYED.get());
+        int secondId = proxy.getId();
+        Assert.assertNotEquals(firstId, secondId);
+        Assert.assertEquals(secondId, ((SelfLookupBean) context.get(bean)).getId());
+    }
+
+    @ApplicationScoped
+    public static class SelfLookupBean
+    {
+        private static final AtomicInteger IDS = new AtomicInteger();
+        private static final AtomicInteger LAST_DESTROYED = new AtomicInteger(-1);
+
+        private final int id = IDS.incrementAndGet();
+
+        @Inject
+        private SelfLookupBean self;
+
+        public int getId()
+        {
+            return id;
+        }
+
+        @PreDestroy
+        public void preDestroy()
+        {
+            // goes through the proxy and the context of the instance which gets destroyed right now
+            LAST_DESTROYED.set(self.getId());
+        }
+    }
+}
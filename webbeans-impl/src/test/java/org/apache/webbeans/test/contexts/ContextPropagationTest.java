@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Context;
+
+import org.apache.webbeans.context.ContextPropagatingExecutor;
+import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+public class ContextPropagationTest extends AbstractUnitTest
+{
+    @Test
+    public void requestContextGetsPropagated() throws Exception
+    {
+        startContainer(RequestBean.class);
+        restartContext(RequestScoped.class);
+
+        ContextsService contextsService = getWebBeansContext().getContextsService();
+        Context requestContext = contextsService.getCurrentContext(RequestScoped.class);
+        getInstance(RequestBean.class).setValue("main");
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try
+        {
+            ContextPropagatingExecutor executor = new ContextPropagatingExecutor(getWebBeansContext(), pool);
+
+            FutureTask<String> value = new FutureTask<>(() -> getInstance(RequestBean.class).getValue());
+            executor.execute(value);
+            assertEquals("main", value.get(1, TimeUnit.MINUTES));
+
+            FutureTask<Context> context = new FutureTask<>(() -> contextsService.getCurrentContext(RequestScoped.class));
+            pool.execute(context);
+            assertNull("contexts must get detached after the task", context.get(1, TimeUnit.MINUTES));
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        assertSame(requestContext, contextsService.getCurrentContext(RequestScoped.class));
+    }
+
+    @Test
+    public void attachAndDetach()
+    {
+        startContainer(RequestBean.class);
+        restartContext(RequestScoped.class);
+
+        ContextsService contextsService = getWebBeansContext().getContextsService();
+        Object snapshot = contextsService.snapshotContexts();
+        getInstance(RequestBean.class).setValue("first");
+
+        // unbind the first request context without ending it and start a new one
+        contextsService.attachContexts(null);
+        startContext(RequestScoped.class);
+        getInstance(RequestBean.class).setValue("second");
+
+        Object previous = contextsService.attachContexts(snapshot);
+        assertEquals("first", getInstance(RequestBean.class).getValue());
+
+        contextsService.detachContexts(previous);
+        assertEquals("second", getInstance(RequestBean.class).getValue());
+    }
+
+    @Test
+    public void noSnapshotWithoutContexts()
+    {
+        startContainer(RequestBean.class);
+
+        ContextsService contextsService = getWebBeansContext().getContextsService();
+        Object previous = contextsService.attachContexts(null);
+        try
+        {
+            assertNull(contextsService.snapshotContexts());
+        }
+        finally
+        {
+            contextsService.detachContexts(previous);
+        }
+        assertNotNull(contextsService.snapshotContexts());
+    }
+
+    @RequestScoped
+    public static class RequestBean
+    {
+        private String value;
+
+        public String getValue()
+        {
+            return value;
+        }
+
+        public void setValue(String value)
+        {
+            this.value = value;
+        }
+    }
+}
@@ -23,9 +23,11 @@ import java.util.Collection;
 
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.SessionScoped;
+import javax.enterprise.inject.spi.Bean;
 
 import org.junit.Assert;
 
+import org.apache.webbeans.context.SessionContext;
 import org.apache.webbeans.test.AbstractUnitTest;
 import org.apache.webbeans.test.contexts.session.common.AppScopedBean;
 import org.apache.webbeans.test.contexts.session.common.PersonalDataBean;
@@ -112,4 +114,67 @@ public class SessionContextTest extends AbstractUnitTest
 
         Assert.assertEquals(1, AppScopedBean.appContextDestroyedEvent.size());
     }
+
+    @Test
+    public void testLookupWithoutCreationalContext()
+    {
+        Collection<Class<?>> classes = new ArrayList<Class<?>>();
+        classes.add(PersonalDataBean.class);
+        classes.add(CircularDependentScopedBean.class);
+        classes.add(CircularApplicationScopedBean.class);
+
+        startContainer(classes);
+
+        Bean<PersonalDataBean> bean = getBean(PersonalDataBean.class);
+        SessionContext sessionContext = new SessionContext();
+        sessionContext.setActive(true);
+
+        // a pure lookup must neither create an instance nor leave an empty entry behind
+        Assert.assertNull(sessionContext.get(bean, null));
+        Assert.assertNull(sessionContext.get(bean));
+
+        PersonalDataBean instance = sessionContext.get(bean, getBeanManager().createCreationalContext(bean));
+        Assert.assertNotNull(instance);
+        Assert.assertSame(instance, sessionContext.get(bean));
+        Assert.assertSame(instance, sessionContext.get(bean, getBeanManager().createCreationalContext(bean)));
+
+        sessionContext.destroy();
+
+        shutDownContainer();
+    }
+
+    @Test
+    public void testDirtyTracking()
+    {
+        Collection<Class<?>> classes = new ArrayList<Class<?>>();
+        classes.add(PersonalDataBean.class);
+        classes.add(CircularDependentScopedBean.class);
+        classes.add(CircularApplicationScopedBean.class);
+
+        startContainer(classes);
+
+        Bean<PersonalDataBean> bean = getBean(PersonalDataBean.class);
+        SessionContext sessionContext = new SessionContext();
+        sessionContext.setActive(true);
+        Assert.assertFalse(sessionContext.isDirty());
+
+        sessionContext.get(bean, getBeanManager().createCreationalContext(bean));
+        Assert.assertTrue(sessionContext.resetDirty());
+        Assert.assertFalse(sessionContext.isDirty());
+
+        // pure reads don't change anything
+        Assert.assertNotNull(sessionContext.get(bean));
+        Assert.assertNotNull(sessionContext.get(bean, getBeanManager().createCreationalContext(bean)));
+        Assert.assertFalse(sessionContext.resetDirty());
+
+        sessionContext.markDirty();
+        Assert.assertTrue(sessionContext.resetDirty());
+
+        sessionContext.destroy(bean);
+        Assert.assertTrue(sessionContext.isDirty());
+
+        sessionContext.destroy();
+
+        shutDownContainer();
+    }
 }
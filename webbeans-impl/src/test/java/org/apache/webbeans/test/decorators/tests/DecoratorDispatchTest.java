@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.decorators.tests;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.inject.Inject;
+import java.io.IOException;
+
+/**
+ * Decorated calls get dispatched via the precompiled DecoratorChains.
+ */
+public class DecoratorDispatchTest extends AbstractUnitTest
+{
+    @Test
+    public void testPartiallyDecoratedStack() throws Exception
+    {
+        addDecorator(CountingDecorator.class);
+        addDecorator(NamingDecorator.class);
+        startContainer(Service.class, ServiceImpl.class, CountingDecorator.class, NamingDecorator.class);
+
+        Service service = getInstance(Service.class);
+        Assert.assertEquals("naming(impl)", service.name());
+        Assert.assertEquals(43, service.count(42));
+        Assert.assertEquals("naming(impl)", service.name());
+
+        try
+        {
+            service.failing();
+            Assert.fail("IOException expected");
+        }
+        catch (IOException expected)
+        {
+            Assert.assertEquals("failing", expected.getMessage());
+        }
+    }
+
+    public interface Service
+    {
+        String name();
+
+        int count(int start);
+
+        void failing() throws IOException;
+    }
+
+    public static class ServiceImpl implements Service
+    {
+        @Override
+        public String name()
+        {
+            return "impl";
+        }
+
+        @Override
+        public int count(int start)
+        {
+            return start;
+        }
+
+        @Override
+        public void failing() throws IOException
+        {
+            throw new IOException("failing");
+        }
+    }
+
+    @Decorator
+    public abstract static class CountingDecorator implements Service
+    {
+        @Inject
+        @Delegate
+        private Service delegate;
+
+        @Override
+        public int count(int start)
+        {
+            return delegate.count(start) + 1;
+        }
+    }
+
+    @Decorator
+    public abstract static class NamingDecorator implements Service
+    {
+        @Inject
+        @Delegate
+        private Service delegate;
+
+        @Override
+        public String name()
+        {
+            return "naming(" + delegate.name() + ")";
+        }
+    }
+}
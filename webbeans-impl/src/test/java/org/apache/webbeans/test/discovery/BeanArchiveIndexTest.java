@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.discovery;
+
+import org.apache.webbeans.corespi.scanner.index.BeanArchiveIndex;
+import org.apache.webbeans.corespi.scanner.index.BeanArchiveIndexer;
+import org.apache.webbeans.spi.BeanArchiveService.BeanDiscoveryMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.enterprise.context.RequestScoped;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BeanArchiveIndexTest
+{
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        Map<String, List<String>> classes = new LinkedHashMap<>();
+        classes.put("org.acme.A", Arrays.asList(RequestScoped.class.getName(), "org.acme.Marker"));
+        classes.put("org.acme.B", Collections.<String>emptyList());
+        classes.put("org.acme.C", Collections.singletonList("org.acme.Marker"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BeanArchiveIndex(BeanDiscoveryMode.ALL, classes).write(out);
+
+        BeanArchiveIndex index = BeanArchiveIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(BeanDiscoveryMode.ALL, index.getBeanDiscoveryMode());
+        assertEquals(classes, index.getClassAnnotations());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidIndex() throws IOException
+    {
+        BeanArchiveIndex.read(new ByteArrayInputStream("not an index".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testIndexClassesDirectory() throws IOException
+    {
+        File classesDir = temp.newFolder("classes");
+        copyClass(ScopedBean.class, classesDir);
+        copyClass(PlainClass.class, classesDir);
+        assertNull(BeanArchiveIndex.load(classesDir.toURI().toURL()));
+
+        // no beans.xml -> implicit bean archive, only annotated classes are candidates
+        BeanArchiveIndexer.writeIndex(classesDir);
+        BeanArchiveIndex index = BeanArchiveIndex.load(classesDir.toURI().toURL());
+        assertEquals(BeanDiscoveryMode.ANNOTATED, index.getBeanDiscoveryMode());
+        assertEquals(Collections.singletonList(RequestScoped.class.getName()), index.getClassAnnotations().get(ScopedBean.class.getName()));
+        assertFalse(index.getClassAnnotations().containsKey(PlainClass.class.getName()));
+
+        File beansXml = new File(classesDir, "META-INF/beans.xml");
+        Files.write(beansXml.toPath(), new byte[0]);
+        BeanArchiveIndexer.writeIndex(classesDir);
+        index = BeanArchiveIndex.load(classesDir.toURI().toURL());
+        assertEquals(BeanDiscoveryMode.ALL, index.getBeanDiscoveryMode());
+        assertTrue(index.getClassAnnotations().containsKey(ScopedBean.class.getName()));
+        assertTrue(index.getClassAnnotations().get(PlainClass.class.getName()).isEmpty());
+    }
+
+    @Test
+    public void testIgnoreOutdatedIndexOfClassesDirectory() throws IOException
+    {
+        File classesDir = temp.newFolder("classes");
+        copyClass(ScopedBean.class, classesDir);
+        BeanArchiveIndexer.writeIndex(classesDir);
+        File indexFile = new File(classesDir, BeanArchiveIndex.INDEX_LOCATION);
+        assertNotNull(BeanArchiveIndex.load(classesDir.toURI().toURL()));
+
+        // recompiled after the index got written
+        File classFile = new File(classesDir, resourceName(ScopedBean.class));
+        assertTrue(classFile.setLastModified(indexFile.lastModified() + 10000));
+        assertNull(BeanArchiveIndex.load(classesDir.toURI().toURL()));
+
+        BeanArchiveIndexer.writeIndex(classesDir);
+        assertTrue(indexFile.setLastModified(classFile.lastModified() + 10000));
+        assertNotNull(BeanArchiveIndex.load(classesDir.toURI().toURL()));
+    }
+
+    @Test
+    public void testIndexJar() throws IOException
+    {
+        File jar = new File(temp.getRoot(), "beans.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar)))
+        {
+            out.putNextEntry(new ZipEntry("META-INF/beans.xml"));
+            out.write("<beans bean-discovery-mode=\"all\" version=\"1.1\"/>".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+            addClass(out, ScopedBean.class);
+            addClass(out, PlainClass.class);
+        }
+        assertNull(BeanArchiveIndex.load(jar.toURI().toURL()));
+
+        BeanArchiveIndexer.writeIndex(jar);
+
+        BeanArchiveIndex index = BeanArchiveIndex.load(jar.toURI().toURL());
+        assertEquals(BeanDiscoveryMode.ALL, index.getBeanDiscoveryMode());
+        assertEquals(2, index.getClassAnnotations().size());
+    }
+
+    private static void copyClass(Class<?> clazz, File classesDir) throws IOException
+    {
+        File target = new File(classesDir, resourceName(clazz));
+        assertTrue(target.getParentFile().isDirectory() || target.getParentFile().mkdirs());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resourceName(clazz)))
+        {
+            Files.copy(in, target.toPath());
+        }
+    }
+
+    private static void addClass(ZipOutputStream out, Class<?> clazz) throws IOException
+    {
+        out.putNextEntry(new ZipEntry(resourceName(clazz)));
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resourceName(clazz)))
+        {
+            copy(in, out);
+        }
+        out.closeEntry();
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException
+    {
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) >= 0)
+        {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static String resourceName(Class<?> clazz)
+    {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    @RequestScoped
+    public static class ScopedBean
+    {
+    }
+
+    public static class PlainClass
+    {
+    }
+}
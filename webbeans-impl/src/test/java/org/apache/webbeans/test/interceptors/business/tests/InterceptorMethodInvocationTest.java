@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.interceptors.business.tests;
+
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Interceptor methods get invoked via pre-resolved invokers.
+ * Ensure they behave like the reflective invocation did.
+ */
+public class InterceptorMethodInvocationTest extends AbstractUnitTest
+{
+    @Test
+    public void testPrivateAndInheritedAroundInvoke()
+    {
+        addInterceptor(MultiMethodInterceptor.class);
+        startContainer(Collections.<Class<?>>singletonList(InterceptedBean.class), Collections.<String>emptyList(), true);
+
+        MultiMethodInterceptor.CALLS.clear();
+        assertEquals("hello", getInstance(InterceptedBean.class).hello());
+        assertEquals("parent", MultiMethodInterceptor.CALLS.get(0));
+        assertEquals("child", MultiMethodInterceptor.CALLS.get(1));
+        assertEquals(2, MultiMethodInterceptor.CALLS.size());
+    }
+
+    @Test
+    public void testCheckedExceptionIsNotWrapped()
+    {
+        addInterceptor(MultiMethodInterceptor.class);
+        startContainer(Collections.<Class<?>>singletonList(InterceptedBean.class), Collections.<String>emptyList(), true);
+
+        try
+        {
+            getInstance(InterceptedBean.class).failing();
+            fail("IOException expected");
+        }
+        catch (IOException expected)
+        {
+            assertEquals("failing", expected.getMessage());
+        }
+    }
+
+    @InterceptorBinding
+    @Target({ElementType.METHOD, ElementType.TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Invoked
+    {
+    }
+
+    @Invoked
+    public static class InterceptedBean
+    {
+        public String hello()
+        {
+            return "hello";
+        }
+
+        public void failing() throws IOException
+        {
+            throw new IOException("failing");
+        }
+    }
+
+    public static class ParentInterceptor
+    {
+        static final List<String> CALLS = new ArrayList<>();
+
+        @AroundInvoke
+        protected Object parent(InvocationContext ctx) throws Exception
+        {
+            CALLS.add("parent");
+            return ctx.proceed();
+        }
+    }
+
+    @Invoked
+    @Interceptor
+    public static class MultiMethodInterceptor extends ParentInterceptor
+    {
+        @AroundInvoke
+        private Object child(InvocationContext ctx) throws Exception
+        {
+            CALLS.add("child");
+            return ctx.proceed();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import javax.enterprise.inject.spi.Interceptor;
 import javax.enterprise.util.AnnotationLiteral;
 
 import org.apache.webbeans.intercept.DefaultInterceptorHandler;
+import org.apache.webbeans.intercept.InterceptorChains;
 import org.apache.webbeans.test.AbstractUnitTest;
 import org.apache.webbeans.test.interceptors.business.common.RuntimeExceptionBindingTypeBean;
 import org.apache.webbeans.test.interceptors.common.RuntimeExceptionsInterceptor;
@@ -91,4 +92,51 @@ public class NewProxyTest extends AbstractUnitTest
         shutDownContainer();
         
     }
+
+    @Test
+    public void testIndexedInterceptorChains() throws Exception
+    {
+        Collection<String> beanXmls = new ArrayList<String>();
+        beanXmls.add(getXmlPath(PACKAGE_NAME, "RuntimeExceptionsInterceptorTest"));
+
+        Collection<Class<?>> beanClasses = new ArrayList<Class<?>>();
+        beanClasses.add(RuntimeExceptionsInterceptor.class);
+        beanClasses.add(RuntimeExceptionBindingTypeBean.class);
+
+        startContainer(beanClasses, beanXmls);
+
+        BeanManager beanManager = getBeanManager();
+        Interceptor interceptorBean = beanManager.resolveInterceptors(InterceptionType.AROUND_INVOKE, new AnnotationLiteral<RuntimeExceptions>() {}).iterator().next();
+        Bean bean = beanManager.resolve(beanManager.getBeans(RuntimeExceptionBindingTypeBean.class));
+        CreationalContext creationalContext = beanManager.createCreationalContext(bean);
+
+        RuntimeExceptionBindingTypeBean target = new RuntimeExceptionBindingTypeBean();
+
+        RuntimeExceptionsInterceptor interceptor = (RuntimeExceptionsInterceptor) interceptorBean.create(creationalContext);
+
+        Method[] interceptedMethods = {RuntimeExceptionBindingTypeBean.class.getMethod("business")};
+        Map<Method, List<Interceptor<?>>> interceptors = new HashMap<Method, List<Interceptor<?>>>();
+        interceptors.put(interceptedMethods[0], Arrays.<Interceptor<?>> asList(interceptorBean));
+        Map instances = new HashMap();
+        instances.put(interceptorBean, interceptor);
+
+        InterceptorDecoratorProxyFactory factory = new InterceptorDecoratorProxyFactory(getWebBeansContext());
+        Class<RuntimeExceptionBindingTypeBean> proxyClass
+                = factory.createProxyClass(bean, Thread.currentThread().getContextClassLoader(), RuntimeExceptionBindingTypeBean.class, interceptedMethods, null);
+
+        InterceptorChains chains = new InterceptorChains(interceptedMethods, interceptors);
+        Assert.assertEquals(1, chains.getInterceptors(0, interceptedMethods[0]).length);
+        Assert.assertNull(chains.getInterceptors(1, interceptedMethods[0]));
+
+        InterceptorHandler interceptorHandler
+                = new DefaultInterceptorHandler<RuntimeExceptionBindingTypeBean>(target, target, interceptors, chains, instances, null);
+
+        RuntimeExceptionBindingTypeBean instance = factory.createProxyInstance(proxyClass, target, interceptorHandler);
+        Assert.assertEquals(42, instance.business());
+        Assert.assertEquals(42, instance.business());
+
+        Assert.assertEquals(2, interceptor.invoked);
+
+        shutDownContainer();
+    }
 }
@@ -21,17 +21,22 @@ package org.apache.webbeans.test.interceptors.resolution;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InterceptionType;
+import javax.enterprise.inject.spi.Interceptor;
 import javax.enterprise.util.AnnotationLiteral;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import org.apache.webbeans.intercept.InterceptorResolutionService;
+import org.apache.webbeans.intercept.InterceptorsManager;
 import org.apache.webbeans.test.AbstractUnitTest;
 import org.apache.webbeans.test.decorators.common.Cow;
 import org.apache.webbeans.test.interceptors.factory.beans.ClassInterceptedClass;
@@ -111,6 +116,71 @@ public class InterceptorResolutionServiceTest extends AbstractUnitTest
         shutDownContainer();
     }
 
+    @Test
+    public void testSharedInterceptorChains() throws Exception
+    {
+        Collection<String> beanXmls = new ArrayList<String>();
+        beanXmls.add(getXmlPath(this.getClass().getPackage().getName(), this.getClass().getSimpleName()));
+
+        Collection<Class<?>> beanClasses = new ArrayList<Class<?>>();
+        beanClasses.add(ClassInterceptedClass.class);
+        beanClasses.add(Transactional.class);
+        beanClasses.add(TransactionalInterceptor.class);
+
+        startContainer(beanClasses, beanXmls);
+
+        InterceptorResolutionService ir = new InterceptorResolutionService(getWebBeansContext());
+        AnnotatedType<ClassInterceptedClass> annotatedType = getBeanManager().createAnnotatedType(ClassInterceptedClass.class);
+        Bean<ClassInterceptedClass> bean =
+                (Bean<ClassInterceptedClass>) getBeanManager().resolve((Set) getBeanManager().getBeans(ClassInterceptedClass.class));
+
+        BeanInterceptorInfo interceptorInfo = ir.calculateInterceptorInfo(bean.getTypes(), bean.getQualifiers(), annotatedType, false);
+        BeanInterceptorInfo otherInterceptorInfo = ir.calculateInterceptorInfo(bean.getTypes(), bean.getQualifiers(), annotatedType, false);
+
+        // beans with the same bindings share the resolved interceptors
+        Assert.assertSame(interceptorInfo.getCdiInterceptors(), otherInterceptorInfo.getCdiInterceptors());
+
+        Interceptor<?>[] sharedChain = null;
+        for (Map.Entry<Method, BusinessMethodInterceptorInfo> mi : interceptorInfo.getBusinessMethodsInfo().entrySet())
+        {
+            if (sharedChain == null)
+            {
+                sharedChain = mi.getValue().getCdiInterceptors();
+            }
+            Assert.assertSame(sharedChain, mi.getValue().getCdiInterceptors());
+            Assert.assertSame(sharedChain, otherInterceptorInfo.getBusinessMethodsInfo().get(mi.getKey()).getCdiInterceptors());
+        }
+
+        shutDownContainer();
+    }
+
+    @Test
+    public void testPrioritizedInterceptorChangesDropSharedChains() throws Exception
+    {
+        Collection<String> beanXmls = new ArrayList<String>();
+        beanXmls.add(getXmlPath(this.getClass().getPackage().getName(), this.getClass().getSimpleName()));
+
+        Collection<Class<?>> beanClasses = new ArrayList<Class<?>>();
+        beanClasses.add(ClassInterceptedClass.class);
+        beanClasses.add(Transactional.class);
+        beanClasses.add(TransactionalInterceptor.class);
+
+        startContainer(beanClasses, beanXmls);
+
+        InterceptorsManager interceptorsManager = getWebBeansContext().getInterceptorsManager();
+        Collection<Annotation> bindings = Collections.<Annotation>singleton(ClassInterceptedClass.class.getAnnotation(Transactional.class));
+        Interceptor<?>[] chain = interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_INVOKE, bindings);
+        Assert.assertSame(chain, interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_INVOKE, bindings));
+
+        // e.g. an AfterTypeDiscovery observer changing the interceptor order
+        List<Class<?>> prioritizedInterceptors = interceptorsManager.getPrioritizedInterceptors();
+        prioritizedInterceptors.add(TransactionalInterceptor.class);
+        prioritizedInterceptors.remove(TransactionalInterceptor.class);
+        Assert.assertNotSame(chain, interceptorsManager.resolveSharedInterceptors(InterceptionType.AROUND_INVOKE, bindings));
+
+        shutDownContainer();
+    }
+
     @Test
     public void testStereotypeInterceptorBinding() throws Exception
     {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.managed;
+
+import org.apache.webbeans.component.OwbBean;
+import org.apache.webbeans.context.creational.CreationalContextFactory;
+import org.apache.webbeans.portable.InjectionTargetImpl;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Test;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TrivialDependentBeanTest extends AbstractUnitTest
+{
+    @Test
+    public void trivialBeansDontGetTracked()
+    {
+        startContainer(ValueBean.class, DestroyableBean.class, Holder.class);
+        DestroyableBean.DESTROYED.set(0);
+
+        assertTrue(isTrivial(ValueBean.class));
+        assertFalse(isTrivial(DestroyableBean.class));
+        assertFalse(isTrivial(Holder.class));
+
+        CreationalContextFactory<?> factory = getWebBeansContext().getCreationalContextFactory();
+        long unreleased = factory.getUnreleasedDependentCount();
+
+        Bean<Holder> holderBean = getBean(Holder.class);
+        CreationalContext<Holder> creationalContext = getBeanManager().createCreationalContext(holderBean);
+        Holder holder = (Holder) getBeanManager().getReference(holderBean, Holder.class, creationalContext);
+        assertNotNull(holder.value);
+        assertNotNull(holder.destroyable);
+        assertNotSame(holder.value, getInstance(ValueBean.class));
+
+        // the holder itself and the DestroyableBean, but not the ValueBean
+        assertEquals(unreleased + 2, factory.getUnreleasedDependentCount());
+
+        creationalContext.release();
+        assertEquals(1, DestroyableBean.DESTROYED.get());
+        assertEquals(unreleased, factory.getUnreleasedDependentCount());
+    }
+
+    private boolean isTrivial(Class<?> beanClass)
+    {
+        return ((InjectionTargetImpl<?>) ((OwbBean<?>) getBean(beanClass)).getProducer()).isTrivial();
+    }
+
+    @Dependent
+    public static class ValueBean
+    {
+    }
+
+    @Dependent
+    public static class DestroyableBean
+    {
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PreDestroy
+        public void destroy()
+        {
+            DESTROYED.incrementAndGet();
+        }
+    }
+
+    @Dependent
+    public static class Holder
+    {
+        @Inject
+        private ValueBean value;
+
+        @Inject
+        private DestroyableBean destroyable;
+    }
+}
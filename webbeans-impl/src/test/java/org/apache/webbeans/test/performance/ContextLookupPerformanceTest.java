@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.performance;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.inject.spi.Bean;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.apache.webbeans.context.AbstractContext;
+import org.apache.webbeans.context.ApplicationContext;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the lookup of an existing &#064;ApplicationScoped instance via the published
+ * instance slots of the ApplicationContext with the previous lookup path:
+ * the active check and a ConcurrentHashMap keyed by the bean.
+ */
+public class ContextLookupPerformanceTest extends AbstractUnitTest
+{
+    private static final Logger logger = Logger.getLogger(ContextLookupPerformanceTest.class.getName());
+
+    private static final int WARMUP_ITERATIONS = 100000;
+
+    // tune up to larger values to
+    private static final int BENCHMARK_ITERATIONS = 1000000;
+
+    @Test
+    public void testApplicationScopedLookupPerformance()
+    {
+        startContainer(AppBean.class);
+        Bean<AppBean> bean = getBean(AppBean.class);
+
+        ApplicationContext publishingContext = new ApplicationContext();
+        publishingContext.setActive(true);
+        MapOnlyContext mapContext = new MapOnlyContext();
+        mapContext.setActive(true);
+
+        AppBean instance = publishingContext.get(bean, getBeanManager().createCreationalContext(bean));
+        Assert.assertSame(instance, publishingContext.get(bean));
+        Assert.assertNotNull(mapContext.get(bean, getBeanManager().createCreationalContext(bean)));
+
+        lookup(publishingContext, bean, WARMUP_ITERATIONS);
+        lookup(mapContext, bean, WARMUP_ITERATIONS);
+
+        long publishedTime = lookup(publishingContext, bean, BENCHMARK_ITERATIONS);
+        long mapTime = lookup(mapContext, bean, BENCHMARK_ITERATIONS);
+
+        logger.info("Looking up an ApplicationScoped instance " + BENCHMARK_ITERATIONS + " times took ms: published slot " +
+                TimeUnit.NANOSECONDS.toMillis(publishedTime) + ", ConcurrentHashMap " + TimeUnit.NANOSECONDS.toMillis(mapTime));
+
+        publishingContext.destroy();
+        Assert.assertNull(publishingContext.get(bean));
+        mapContext.destroy();
+    }
+
+    private long lookup(Context context, Bean<AppBean> bean, int iterations)
+    {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+        {
+            if (context.get(bean) == null)
+            {
+                Assert.fail("instance must exist");
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * The lookup path of the ApplicationContext before instances got published.
+     */
+    private static class MapOnlyContext extends AbstractContext
+    {
+        private MapOnlyContext()
+        {
+            super(ApplicationScoped.class);
+        }
+
+        @Override
+        protected void setComponentInstanceMap()
+        {
+            componentInstanceMap = new ConcurrentHashMap<>();
+        }
+    }
+
+    @ApplicationScoped
+    public static class AppBean
+    {
+        // no content needed
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.performance;
+
+import javax.enterprise.context.RequestScoped;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.apache.webbeans.spi.ContextsService;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures the overhead of starting and ending a request context per task,
+ * once on a pool of platform threads and once with a virtual thread per task
+ * if the JVM supports virtual threads.
+ */
+public class RequestContextPerformanceTest extends AbstractUnitTest
+{
+    private static final Logger logger = Logger.getLogger(RequestContextPerformanceTest.class.getName());
+
+    private static final int WARMUP_REQUESTS = 10000;
+
+    // tune up to larger values to
+    private static final int BENCHMARK_REQUESTS = 100000;
+
+    @Test
+    public void testRequestContextOverhead() throws Exception
+    {
+        startContainer(RequestBean.class);
+
+        ExecutorService platformThreads = Executors.newFixedThreadPool(4);
+        try
+        {
+            runRequests(platformThreads, WARMUP_REQUESTS);
+            long platformTime = runRequests(platformThreads, BENCHMARK_REQUESTS);
+            logger.info(BENCHMARK_REQUESTS + " request contexts on platform threads took ms: " + TimeUnit.NANOSECONDS.toMillis(platformTime));
+        }
+        finally
+        {
+            platformThreads.shutdownNow();
+        }
+
+        ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+        if (virtualThreads == null)
+        {
+            logger.info("virtual threads are not supported by this JVM");
+            return;
+        }
+        try
+        {
+            runRequests(virtualThreads, WARMUP_REQUESTS);
+            long virtualTime = runRequests(virtualThreads, BENCHMARK_REQUESTS);
+            logger.info(BENCHMARK_REQUESTS + " request contexts on virtual threads took ms: " + TimeUnit.NANOSECONDS.toMillis(virtualTime));
+        }
+        finally
+        {
+            virtualThreads.shutdownNow();
+        }
+    }
+
+    private long runRequests(ExecutorService executor, int requests) throws Exception
+    {
+        ContextsService contextsService = getWebBeansContext().getContextsService();
+        Callable<Boolean> request = () ->
+        {
+            contextsService.startContext(RequestScoped.class, null);
+            try
+            {
+                getInstance(RequestBean.class).touch();
+            }
+            finally
+            {
+                contextsService.endContext(RequestScoped.class, null);
+            }
+            return contextsService.getCurrentContext(RequestScoped.class) == null;
+        };
+
+        long start = System.nanoTime();
+        List<Future<Boolean>> results = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++)
+        {
+            results.add(executor.submit(request));
+        }
+        for (Future<Boolean> result : results)
+        {
+            Assert.assertTrue("request context must be gone after the request", result.get());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean
+    {
+        private int calls;
+
+        public int touch()
+        {
+            return ++calls;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.portable.events;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Vetoed;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AnnotatedTypes get prepared on multiple threads,
+ * but ProcessAnnotatedType must still be fired on the deploying thread.
+ */
+public class ParallelAnnotatedTypeTest extends AbstractUnitTest
+{
+    @Test
+    public void testProcessAnnotatedTypeOnDeployingThread()
+    {
+        PatRecorder recorder = new PatRecorder();
+        try
+        {
+            System.setProperty(OpenWebBeansConfiguration.BOOT_PARALLELISM, "4");
+            addExtension(recorder);
+            startContainer(BeanA.class, BeanB.class, BeanC.class, BeanD.class, VetoedBean.class);
+        }
+        finally
+        {
+            System.clearProperty(OpenWebBeansConfiguration.BOOT_PARALLELISM);
+        }
+
+        Assert.assertTrue(recorder.types.contains(BeanA.class));
+        Assert.assertTrue(recorder.types.contains(BeanB.class));
+        Assert.assertTrue(recorder.types.contains(BeanC.class));
+        Assert.assertTrue(recorder.types.contains(BeanD.class));
+        Assert.assertFalse(recorder.types.contains(VetoedBean.class));
+        for (Thread thread : recorder.threads)
+        {
+            Assert.assertSame(Thread.currentThread(), thread);
+        }
+
+        Assert.assertEquals("ABCD", getInstance(BeanA.class).name());
+    }
+
+    public static class PatRecorder implements Extension
+    {
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Thread> threads = new ArrayList<>();
+
+        void pat(@Observes ProcessAnnotatedType<?> pat)
+        {
+            types.add(pat.getAnnotatedType().getJavaClass());
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @ApplicationScoped
+    public static class BeanA
+    {
+        @Inject
+        private BeanB beanB;
+
+        public String name()
+        {
+            return "A" + beanB.name();
+        }
+    }
+
+    @Dependent
+    public static class BeanB
+    {
+        @Inject
+        private BeanC beanC;
+
+        public String name()
+        {
+            return "B" + beanC.name();
+        }
+    }
+
+    @ApplicationScoped
+    public static class BeanC
+    {
+        @Inject
+        private BeanD beanD;
+
+        public String name()
+        {
+            return "C" + beanD.name();
+        }
+    }
+
+    @Dependent
+    public static class BeanD
+    {
+        public String name()
+        {
+            return "D";
+        }
+    }
+
+    @Vetoed
+    public static class VetoedBean
+    {
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.portable.events;
+
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.test.AbstractUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Annotated;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessBeanAttributes;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BeanAttributes get built on multiple threads,
+ * but ProcessBeanAttributes must still be fired on the deploying thread in the original order.
+ */
+public class ParallelBeanAttributesTest extends AbstractUnitTest
+{
+    @Test
+    public void testProcessBeanAttributesInOriginalOrder()
+    {
+        Recorder recorder = new Recorder();
+        try
+        {
+            System.setProperty(OpenWebBeansConfiguration.BOOT_PARALLELISM, "4");
+            addExtension(recorder);
+            startContainer(BeanA.class, BeanB.class, BeanC.class, BeanD.class, AbstractBean.class);
+        }
+        finally
+        {
+            System.clearProperty(OpenWebBeansConfiguration.BOOT_PARALLELISM);
+        }
+
+        Assert.assertEquals(recorder.patOrder, recorder.pbaOrder);
+        Assert.assertFalse(recorder.pbaOrder.contains(AbstractBean.class));
+        for (Thread thread : recorder.threads)
+        {
+            Assert.assertSame(Thread.currentThread(), thread);
+        }
+
+        Assert.assertEquals(RequestScoped.class, getBeanManager().resolve(getBeanManager().getBeans(BeanB.class)).getScope());
+        Assert.assertNotNull(getBeanManager().resolve(getBeanManager().getBeans("beanC")));
+    }
+
+    public static class Recorder implements Extension
+    {
+        private final List<Class<?>> patOrder = new ArrayList<>();
+        private final List<Class<?>> pbaOrder = new ArrayList<>();
+        private final List<Thread> threads = new ArrayList<>();
+
+        void pat(@Observes ProcessAnnotatedType<?> pat)
+        {
+            Class<?> javaClass = pat.getAnnotatedType().getJavaClass();
+            if (javaClass.getEnclosingClass() == ParallelBeanAttributesTest.class && javaClass != AbstractBean.class)
+            {
+                patOrder.add(javaClass);
+            }
+        }
+
+        void pba(@Observes ProcessBeanAttributes<?> pba)
+        {
+            Annotated annotated = pba.getAnnotated();
+            if (annotated instanceof AnnotatedType)
+            {
+                Class<?> javaClass = ((AnnotatedType<?>) annotated).getJavaClass();
+                if (javaClass.getEnclosingClass() == ParallelBeanAttributesTest.class)
+                {
+                    pbaOrder.add(javaClass);
+                    threads.add(Thread.currentThread());
+                }
+            }
+        }
+    }
+
+    @ApplicationScoped
+    public static class BeanA
+    {
+    }
+
+    @RequestScoped
+    public static class BeanB
+    {
+    }
+
+    @Named
+    public static class BeanC
+    {
+    }
+
+    public static class BeanD
+    {
+    }
+
+    public abstract static class AbstractBean
+    {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.webbeans.util.ParallelUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelUtilTest
+{
+    @Test
+    public void testKeepsOrder()
+    {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+        {
+            items.add(i);
+        }
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+        List<String> results = ParallelUtil.map(4, items, i ->
+        {
+            threads.add(Thread.currentThread());
+            Assert.assertSame(loader, Thread.currentThread().getContextClassLoader());
+            return "item" + i;
+        });
+
+        Assert.assertEquals(items.size(), results.size());
+        for (int i = 0; i < items.size(); i++)
+        {
+            Assert.assertEquals("item" + i, results.get(i));
+        }
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testSequential()
+    {
+        List<Thread> threads = ParallelUtil.map(1, Arrays.asList(1, 2, 3), i -> Thread.currentThread());
+        for (Thread thread : threads)
+        {
+            Assert.assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRethrowsFailure()
+    {
+        ParallelUtil.map(4, Arrays.asList(1, 2, 3, 4), i ->
+        {
+            if (i == 3)
+            {
+                throw new IllegalArgumentException("failing item " + i);
+            }
+            return i;
+        });
+    }
+}
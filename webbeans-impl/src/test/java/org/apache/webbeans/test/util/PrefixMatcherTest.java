@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.test.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.webbeans.util.PrefixMatcher;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrefixMatcherTest
+{
+    @Test
+    public void testMatches()
+    {
+        PrefixMatcher matcher = new PrefixMatcher(Arrays.asList("org.acme.", "org.apache.webbeans.test", "com.foo"));
+        Assert.assertEquals(3, matcher.size());
+
+        Assert.assertTrue(matcher.matches("org.acme.Foo"));
+        Assert.assertTrue(matcher.matches("org.apache.webbeans.test"));
+        Assert.assertTrue(matcher.matches("org.apache.webbeans.test.sub.Bar"));
+        Assert.assertTrue(matcher.matches("com.foobar.Baz"));
+
+        Assert.assertFalse(matcher.matches("org.acme"));
+        Assert.assertFalse(matcher.matches("org.apache.webbeans.Foo"));
+        Assert.assertFalse(matcher.matches("net.Foo"));
+        Assert.assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    public void testMinLength()
+    {
+        PrefixMatcher matcher = new PrefixMatcher(Arrays.asList("org.acme", "org.acme.sub"));
+
+        Assert.assertTrue(matcher.matches("org.acme.Foo", "org.acme.Foo".lastIndexOf('.')));
+        Assert.assertTrue(matcher.matches("org.acme.sub.Foo", "org.acme.sub.Foo".lastIndexOf('.')));
+        Assert.assertFalse(matcher.matches("org.acme.other.Foo", "org.acme.other.Foo".lastIndexOf('.')));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        Assert.assertFalse(new PrefixMatcher(Collections.<String>emptyList()).matches("org.acme.Foo"));
+        Assert.assertTrue(new PrefixMatcher(Collections.singletonList("")).matches("org.acme.Foo"));
+    }
+}
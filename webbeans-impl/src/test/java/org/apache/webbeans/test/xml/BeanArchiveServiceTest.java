@@ -21,7 +21,13 @@ package org.apache.webbeans.test.xml;
 
 import javax.enterprise.inject.spi.DeploymentException;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.webbeans.spi.BeanArchiveService;
 import org.apache.webbeans.spi.BeanArchiveService.BeanArchiveInformation;
@@ -31,6 +37,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.Assert;
 import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
 
 
 public class BeanArchiveServiceTest
@@ -176,6 +183,67 @@ public class BeanArchiveServiceTest
 
 
 
+    @Test
+    public void testParsedBeansXmlGetsReused() throws Exception
+    {
+        File beansXml = tempFolder.newFile("beans.xml");
+        Files.write(beansXml.toPath(),
+                "<beans><alternatives><class>org.acme.Alternative1</class></alternatives></beans>".getBytes(StandardCharsets.UTF_8));
+        URL url = beansXml.toURI().toURL();
+
+        BeanArchiveInformation bai = new CountingBeanArchiveService().getBeanArchiveInformation(url);
+        Assert.assertEquals(Collections.singletonList("org.acme.Alternative1"), bai.getAlternativeClasses());
+        bai.getAlternativeClasses().add("org.acme.Modified");
+        int parsed = CountingBeanArchiveService.PARSED.get();
+
+        // another container must neither parse again, nor see the modification or the same instance
+        BeanArchiveInformation reused = new CountingBeanArchiveService().getBeanArchiveInformation(url);
+        Assert.assertEquals(parsed, CountingBeanArchiveService.PARSED.get());
+        Assert.assertNotSame(bai, reused);
+        Assert.assertEquals(Collections.singletonList("org.acme.Alternative1"), reused.getAlternativeClasses());
+
+        Files.write(beansXml.toPath(),
+                "<beans><alternatives><class>org.acme.Alternative2</class></alternatives></beans>".getBytes(StandardCharsets.UTF_8));
+        BeanArchiveInformation changed = new CountingBeanArchiveService().getBeanArchiveInformation(url);
+        Assert.assertEquals(parsed + 1, CountingBeanArchiveService.PARSED.get());
+        Assert.assertEquals(Collections.singletonList("org.acme.Alternative2"), changed.getAlternativeClasses());
+    }
+
+    @Test
+    public void testOverriddenBeansRootElementGetsUsed() throws Exception
+    {
+        File beansXml = tempFolder.newFile("beans.xml");
+        Files.write(beansXml.toPath(),
+                "<beans><alternatives><class>org.acme.Alternative1</class></alternatives></beans>".getBytes(StandardCharsets.UTF_8));
+
+        final AtomicInteger parsed = new AtomicInteger();
+        BeanArchiveService beanArchiveService = new DefaultBeanArchiveService()
+        {
+            @Override
+            protected Element getBeansRootElement(InputStream xmlStream)
+            {
+                parsed.incrementAndGet();
+                return super.getBeansRootElement(xmlStream);
+            }
+        };
+
+        BeanArchiveInformation bai = beanArchiveService.getBeanArchiveInformation(beansXml.toURI().toURL());
+        Assert.assertEquals(1, parsed.get());
+        Assert.assertEquals(Collections.singletonList("org.acme.Alternative1"), bai.getAlternativeClasses());
+    }
+
+    public static class CountingBeanArchiveService extends DefaultBeanArchiveService
+    {
+        private static final AtomicInteger PARSED = new AtomicInteger();
+
+        @Override
+        protected BeanArchiveInformation readBeansXml(InputStream xmlStreamIn, String beansXmlLocation) throws IOException
+        {
+            PARSED.incrementAndGet();
+            return super.readBeansXml(xmlStreamIn, beansXmlLocation);
+        }
+    }
+
     private BeanArchiveInformation scanBeansXml(String name)
     {
         URL url = getClass().getClassLoader().getResource("org/apache/webbeans/test/xml/strict/" + name);
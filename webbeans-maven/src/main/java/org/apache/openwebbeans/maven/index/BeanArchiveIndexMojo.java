@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.openwebbeans.maven.index;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.webbeans.corespi.scanner.index.BeanArchiveIndex;
+import org.apache.webbeans.corespi.scanner.index.BeanArchiveIndexer;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes the {@link BeanArchiveIndex} of the compiled classes to
+ * {@code META-INF/openwebbeans/index.bin}, so it gets packaged into the jar.
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;org.apache.openwebbeans&lt;/groupId&gt;
+ *   &lt;artifactId&gt;openwebbeans-maven&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;goals&gt;&lt;goal&gt;index&lt;/goal&gt;&lt;/goals&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ */
+@Mojo(name = "index", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class BeanArchiveIndexMojo extends AbstractMojo
+{
+    @Parameter(property = "openwebbeans.index.classesDirectory", defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+
+    @Parameter(property = "openwebbeans.index.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException
+    {
+        if (skip)
+        {
+            getLog().info("Skipping the OpenWebBeans bean archive index");
+            return;
+        }
+        if (!classesDirectory.isDirectory())
+        {
+            getLog().info(classesDirectory + " doesn't exist, no bean archive index written");
+            return;
+        }
+
+        try
+        {
+            BeanArchiveIndex index = BeanArchiveIndexer.writeIndex(classesDirectory);
+            getLog().info("Wrote bean archive index with " + index.getClassAnnotations().size() + " classes, bean-discovery-mode "
+                    + index.getBeanDiscoveryMode());
+        }
+        catch (IOException | RuntimeException e)
+        {
+            throw new MojoExecutionException("Cannot write the bean archive index of " + classesDirectory, e);
+        }
+    }
+}
@@ -18,17 +18,28 @@
  */
 package org.apache.openwebbeans.se;
 
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
+import org.apache.webbeans.config.WebBeansContext;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.enterprise.inject.se.SeContainer;
 import javax.enterprise.inject.se.SeContainerInitializer;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+import java.io.File;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class CDISETest
 {
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
     @Test
     public void scanning()
     {
@@ -83,6 +94,36 @@ public class CDISETest
         }
     }
 
+    @Test
+    public void finderAfterSnapshotBoot()
+    {
+        File snapshot = new File(temp.getRoot(), "scan.bin");
+        for (int i = 0; i < 2; i++)
+        {
+            FinderExtension extension = new FinderExtension();
+            try (final SeContainer container = SeContainerInitializer.newInstance()
+                    .addProperty(OpenWebBeansConfiguration.SCAN_SNAPSHOT_FILE, snapshot.getAbsolutePath())
+                    .addExtensions(extension)
+                    .initialize())
+            {
+                assertTrue(container.select(Scanned.class).isResolvable());
+                assertTrue(snapshot.isFile());
+            }
+            // the second boot uses the snapshot, but the finder must still be available
+            assertNotNull(extension.finder);
+        }
+    }
+
+    public static class FinderExtension implements Extension
+    {
+        private Object finder;
+
+        void afterBeanDiscovery(@Observes AfterBeanDiscovery afterBeanDiscovery)
+        {
+            finder = ((CDISeScannerService) WebBeansContext.currentInstance().getScannerService()).getFinder();
+        }
+    }
+
     public static class ImNotScanned {
     }
 
@@ -101,6 +101,41 @@ public interface ContextsService
      */
     void removeThreadLocals();
 
+    /**
+     * Captures the thread bound contexts (e.g. request, session and conversation) of the current thread
+     * so they can be attached to another thread later on, e.g. for an AsyncContext or an Executor.
+     * The contexts themselves don't get copied, the snapshot only references them.
+     *
+     * @return an opaque snapshot or {@code null} if this ContextsService has no thread bound contexts
+     * @see #attachContexts(Object)
+     */
+    default Object snapshotContexts()
+    {
+        return null;
+    }
+
+    /**
+     * Binds the contexts of the given snapshot to the current thread.
+     * This doesn't start or end any context, the caller must make sure the contexts
+     * don't get ended while they are in use on this thread.
+     *
+     * @param snapshot taken via {@link #snapshotContexts()}
+     * @return the previous state of this thread which must get passed to {@link #detachContexts(Object)}
+     */
+    default Object attachContexts(Object snapshot)
+    {
+        return null;
+    }
+
+    /**
+     * Unbinds the contexts attached via {@link #attachContexts(Object)} and restores the previous state.
+     * @param previous the value returned by {@link #attachContexts(Object)}
+     */
+    default void detachContexts(Object previous)
+    {
+        // no thread bound contexts by default
+    }
+
     /**
      * This method can be used to disable conversation support in core CDI.
      * This is needed as the spec defines that a user can define it's
@@ -20,12 +20,14 @@ package org.apache.webbeans.servlet;
 
 
 import org.apache.webbeans.config.OWBLogConst;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.el.ELContextStore;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.spi.ContainerLifecycle;
 import org.apache.webbeans.util.WebBeansUtil;
 import org.apache.webbeans.web.context.WebContextsService;
+import org.apache.webbeans.web.util.RequestPathMatcher;
 import org.apache.webbeans.web.util.ServletCompatibilityUtil;
 
 import javax.enterprise.context.RequestScoped;
@@ -68,6 +70,12 @@ public class WebBeansConfigurationFilter implements Filter
     private WebContextsService webContextsService;
     private boolean startOwb;
 
+    /**
+     * requests which don't get a request context, {@code null} if there are no exclusions
+     * @see OpenWebBeansConfiguration#REQUEST_CONTEXT_EXCLUDED_PATHS
+     */
+    private RequestPathMatcher excludedRequests;
+
     /**
      * Default constructor
      */
@@ -75,6 +83,11 @@ public class WebBeansConfigurationFilter implements Filter
     {
         webBeansContext = WebBeansContext.getInstance();
         webContextsService = (WebContextsService) webBeansContext.getContextsService();
+
+        OpenWebBeansConfiguration configuration = webBeansContext.getOpenWebBeansConfiguration();
+        excludedRequests = RequestPathMatcher.create(
+            configuration.getProperty(OpenWebBeansConfiguration.REQUEST_CONTEXT_EXCLUDED_PATHS),
+            configuration.getProperty(OpenWebBeansConfiguration.REQUEST_CONTEXT_INCLUDED_PATHS));
     }
 
     /**
@@ -112,6 +125,12 @@ public class WebBeansConfigurationFilter implements Filter
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException
     {
+        if (excludedRequests != null && excludedRequests.isExcluded(servletRequest))
+        {
+            doFilterWithoutRequestContext(servletRequest, servletResponse, filterChain);
+            return;
+        }
+
         try
         {
             if (firstInit(servletRequest))
@@ -130,6 +149,24 @@ public class WebBeansConfigurationFilter implements Filter
         }
     }
 
+    private void doFilterWithoutRequestContext(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+            throws IOException, ServletException
+    {
+        boolean contextStarted = webContextsService.getRequestContext(false) != null;
+        try
+        {
+            filterChain.doFilter(servletRequest, servletResponse);
+        }
+        finally
+        {
+            // only end the request context if it got lazily started for this very request
+            if (!contextStarted && webContextsService.getRequestContext(false) != null)
+            {
+                requestDestroyed(servletRequest);
+            }
+        }
+    }
+
     private boolean firstInit(ServletRequest servletRequest)
     {
         Integer callCount = (Integer) servletRequest.getAttribute(CALL_COUNT_ATTRIBUTE_NAME);
@@ -19,12 +19,14 @@
 package org.apache.webbeans.servlet;
 
 import org.apache.webbeans.config.OWBLogConst;
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
 import org.apache.webbeans.el.ELContextStore;
 import org.apache.webbeans.logger.WebBeansLoggerFacade;
 import org.apache.webbeans.spi.ContainerLifecycle;
 import org.apache.webbeans.spi.ContextsService;
 import org.apache.webbeans.util.WebBeansUtil;
+import org.apache.webbeans.web.util.RequestPathMatcher;
 import org.apache.webbeans.web.util.ServletCompatibilityUtil;
 
 import javax.enterprise.context.RequestScoped;
@@ -63,6 +65,12 @@ public class WebBeansConfigurationListener implements ServletContextListener, Se
     private WebBeansContext webBeansContext;
     private ContextsService contextsService;
 
+    /**
+     * requests which don't get a request context, {@code null} if there are no exclusions
+     * @see OpenWebBeansConfiguration#REQUEST_CONTEXT_EXCLUDED_PATHS
+     */
+    private RequestPathMatcher excludedRequests;
+
     /**
      * Default constructor
      */
@@ -70,6 +78,11 @@ public class WebBeansConfigurationListener implements ServletContextListener, Se
     {
         webBeansContext = WebBeansContext.getInstance();
         contextsService = webBeansContext.getContextsService();
+
+        OpenWebBeansConfiguration configuration = webBeansContext.getOpenWebBeansConfiguration();
+        excludedRequests = RequestPathMatcher.create(
+            configuration.getProperty(OpenWebBeansConfiguration.REQUEST_CONTEXT_EXCLUDED_PATHS),
+            configuration.getProperty(OpenWebBeansConfiguration.REQUEST_CONTEXT_INCLUDED_PATHS));
     }
 
     /**
@@ -101,6 +114,12 @@ public class WebBeansConfigurationListener implements ServletContextListener, Se
     @Override
     public void requestInitialized(ServletRequestEvent event)
     {
+        if (isExcluded(event))
+        {
+            // the request context will only get started lazily if a @RequestScoped bean gets used
+            return;
+        }
+
         try
         {
             if (logger.isLoggable(Level.FINE))
@@ -176,6 +195,13 @@ public class WebBeansConfigurationListener implements ServletContextListener, Se
             elStore.destroyELContextStore();
         }
 
+        if (isExcluded(event) && contextsService.getCurrentContext(RequestScoped.class, false) == null)
+        {
+            // nothing got started for this request
+            cleanupRequestThreadLocals();
+            return;
+        }
+
         this.lifeCycle.getContextService().endContext(RequestScoped.class, event);
 
         this.cleanupRequestThreadLocals();
@@ -202,6 +228,11 @@ public class WebBeansConfigurationListener implements ServletContextListener, Se
         }
     }
 
+    private boolean isExcluded(ServletRequestEvent event)
+    {
+        return excludedRequests != null && event != null && excludedRequests.isExcluded(event.getServletRequest());
+    }
+
     private boolean ensureRequestScope()
     {
         Context context = this.lifeCycle.getContextService().getCurrentContext(RequestScoped.class);
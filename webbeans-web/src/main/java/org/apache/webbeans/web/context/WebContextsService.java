@@ -31,6 +31,8 @@ import org.apache.webbeans.context.DependentContext;
 import org.apache.webbeans.context.RequestContext;
 import org.apache.webbeans.context.SessionContext;
 import org.apache.webbeans.context.SingletonContext;
+import org.apache.webbeans.context.ThreadContextsSnapshot;
+import org.apache.webbeans.context.ThreadLocalSlots;
 import org.apache.webbeans.conversation.ConversationManager;
 import org.apache.webbeans.el.ELContextStore;
 import org.apache.webbeans.event.NotificationManager;
@@ -68,6 +70,11 @@ public class WebContextsService extends AbstractContextsService
 
     private static final String OWB_SESSION_CONTEXT_ATTRIBUTE_NAME = "openWebBeansSessionContext";
 
+    /**
+     * Marks a pending request which didn't get started by a ServletRequest
+     */
+    private static final Object NO_SERVLET_REQUEST = new Object();
+
     /**
      * TODO implement later: optional immediate destroy
      */
@@ -83,6 +90,12 @@ public class WebContextsService extends AbstractContextsService
     /**Current request context*/
     protected ThreadLocal<ServletRequestContext> requestContexts;
 
+    /**
+     * Requests which got started but didn't need their request context yet.
+     * Holds the HttpServletRequest or {@link #NO_SERVLET_REQUEST}.
+     */
+    protected ThreadLocal<Object> pendingRequests;
+
     /**Current session context*/
     protected ThreadLocal<SessionContext> sessionContexts;
 
@@ -101,6 +114,11 @@ public class WebContextsService extends AbstractContextsService
 
     protected Boolean fireRequestLifecycleEvents;
 
+    /**
+     * @see OpenWebBeansConfiguration#SESSION_REPLICATE_DIRTY_ONLY
+     */
+    protected boolean replicateDirtySessionsOnly;
+
     /**
      * Creates a new instance.
      */
@@ -112,15 +130,20 @@ public class WebContextsService extends AbstractContextsService
         applicationContext = new ApplicationContext();
         applicationContext.setActive(true);
 
-        requestContexts = new ThreadLocal<>();
-        sessionContexts = new ThreadLocal<>();
-        conversationContexts = new ThreadLocal<>();
+        // all thread bound contexts share a single ThreadLocal entry
+        ThreadLocalSlots threadContexts = new ThreadLocalSlots(4);
+        requestContexts = threadContexts.newSlot();
+        pendingRequests = threadContexts.newSlot();
+        sessionContexts = threadContexts.newSlot();
+        conversationContexts = threadContexts.newSlot();
 
         //Dependent context is always active
         dependentContext = new DependentContext();
         dependentContext.setActive(true);
 
         configureEagerSessionInitialisation(webBeansContext);
+        replicateDirtySessionsOnly = Boolean.parseBoolean(
+            webBeansContext.getOpenWebBeansConfiguration().getProperty(OpenWebBeansConfiguration.SESSION_REPLICATE_DIRTY_ONLY));
     }
 
     protected void configureEagerSessionInitialisation(WebBeansContext webBeansContext)
@@ -143,12 +166,54 @@ public class WebContextsService extends AbstractContextsService
         }
     }
 
+    @Override
+    public Object snapshotContexts()
+    {
+        return ThreadContextsSnapshot.of(getRequestContext(false), sessionContexts.get(), conversationContexts.get());
+    }
+
+    @Override
+    public Object attachContexts(Object snapshot)
+    {
+        ThreadContextsSnapshot contexts = ThreadContextsSnapshot.of(snapshot);
+        Object previous = snapshotContexts();
+        bind(contexts);
+        return previous;
+    }
+
+    @Override
+    public void detachContexts(Object previous)
+    {
+        bind(ThreadContextsSnapshot.of(previous));
+    }
+
+    private void bind(ThreadContextsSnapshot contexts)
+    {
+        bind(requestContexts, (ServletRequestContext) contexts.getRequestContext());
+        bind(sessionContexts, contexts.getSessionContext());
+        bind(conversationContexts, contexts.getConversationContext());
+        ThreadContextsSnapshot.clearProxyCaches();
+    }
+
+    private static <T> void bind(ThreadLocal<T> threadLocal, T context)
+    {
+        if (context == null)
+        {
+            threadLocal.remove();
+        }
+        else
+        {
+            threadLocal.set(context);
+        }
+    }
+
     /**
      * Removes the ThreadLocals from the ThreadMap to prevent memory leaks.
      */
     public void removeThreadLocals()
     {
         requestContexts.remove();
+        pendingRequests.remove();
         sessionContexts.remove();
         conversationContexts.remove();
         RequestScopedBeanInterceptorHandler.removeThreadLocals();
@@ -181,6 +246,7 @@ public class WebContextsService extends AbstractContextsService
             requestContexts.set(null);
             requestContexts.remove();
         }
+        pendingRequests.remove();
 
         SessionContext sessionCtx = sessionContexts.get();
         if (sessionCtx != null)
@@ -347,36 +413,44 @@ public class WebContextsService extends AbstractContextsService
      */
     protected void initRequestContext(Object startupObject )
     {
-        
-        ServletRequestContext requestContext = new ServletRequestContext();
-        requestContext.setActive(true);
+        HttpServletRequest request = null;
+        if (startupObject instanceof ServletRequestEvent)
+        {
+            request = (HttpServletRequest) ((ServletRequestEvent) startupObject).getServletRequest();
+        }
 
-        requestContexts.set(requestContext);// set thread local
+        boolean eagerSession = request != null && shouldEagerlyInitializeSession(request);
+        if (!eagerSession && !shouldFireRequestLifecycleEvents())
+        {
+            // most requests (health checks, static resources,...) never touch a @RequestScoped bean,
+            // so we only create the context once it gets needed, see getRequestContext
+            pendingRequests.set(request != null ? request : NO_SERVLET_REQUEST);
+            return;
+        }
 
-        Object payload = null;
+        createRequestContext(request);
 
-        if(startupObject instanceof ServletRequestEvent)
+        if (eagerSession)
         {
-            HttpServletRequest request = (HttpServletRequest) ((ServletRequestEvent) startupObject).getServletRequest();
-            requestContext.setServletRequest(request);
-            
-            if (request != null)
-            {
-                payload = request;
-
-                if (shouldEagerlyInitializeSession(request))
-                {
-                    request.getSession(true);
-                }
-            }
+            request.getSession(true);
         }
         if (shouldFireRequestLifecycleEvents())
         {
             webBeansContext.getBeanManagerImpl().fireContextLifecyleEvent(
-                payload != null ? payload : new Object(), InitializedLiteral.INSTANCE_REQUEST_SCOPED);
+                request != null ? request : new Object(), InitializedLiteral.INSTANCE_REQUEST_SCOPED);
         }
     }
 
+    private ServletRequestContext createRequestContext(HttpServletRequest request)
+    {
+        ServletRequestContext requestContext = new ServletRequestContext();
+        requestContext.setActive(true);
+        requestContext.setServletRequest(request);
+
+        requestContexts.set(requestContext);// set thread local
+        return requestContext;
+    }
+
     protected boolean shouldEagerlyInitializeSession(HttpServletRequest request)
     {
         if (eagerSessionPattern != null)
@@ -394,6 +468,22 @@ public class WebContextsService extends AbstractContextsService
      */
     protected void destroyRequestContext(Object endObject)
     {
+        if (requestContexts.get() == null && pendingRequests.get() != null
+            && sessionContexts.get() == null && conversationContexts.get() == null)
+        {
+            // the request context never got used, so there is nothing to destroy
+            pendingRequests.remove();
+
+            ELContextStore elStore = ELContextStore.getInstance(false);
+            if (elStore != null)
+            {
+                elStore.destroyELContextStore();
+            }
+            RequestScopedBeanInterceptorHandler.removeThreadLocals();
+            SessionScopedBeanInterceptorHandler.removeThreadLocals();
+            return;
+        }
+
         //Get context
         ServletRequestContext context = getRequestContext(false);
 
@@ -432,6 +522,10 @@ public class WebContextsService extends AbstractContextsService
                 payload != null ? payload : new Object(), DestroyedLiteral.INSTANCE_SESSION_SCOPED);
 
         }
+        else if (replicateDirtySessionsOnly)
+        {
+            replicateSessionContextIfDirty(context);
+        }
 
         Object payload = null;
         if (shouldFireRequestLifecycleEvents())
@@ -472,6 +566,33 @@ public class WebContextsService extends AbstractContextsService
     }
 
 
+    /**
+     * Sets the SessionContext as HttpSession attribute again if any of its instances changed during the request.
+     * This triggers the delta-replication of the servlet container.
+     */
+    protected void replicateSessionContextIfDirty(ServletRequestContext requestContext)
+    {
+        SessionContext sessionContext = sessionContexts.get();
+        if (sessionContext == null || !sessionContext.resetDirty() || requestContext.getServletRequest() == null)
+        {
+            return;
+        }
+
+        HttpSession session = requestContext.getServletRequest().getSession(false);
+        if (session != null)
+        {
+            try
+            {
+                session.setAttribute(OWB_SESSION_CONTEXT_ATTRIBUTE_NAME, sessionContext);
+            }
+            catch (IllegalStateException e)
+            {
+                // the session got invalidated in the meantime, nothing to replicate
+                logger.log(Level.FINE, "Session already invalidated", e);
+            }
+        }
+    }
+
     /**
      * Creates the session context at the session start.
      * @param startupObject HttpSession object
@@ -510,9 +631,11 @@ public class WebContextsService extends AbstractContextsService
             }
             else
             {
-                // we do that in any case.
-                // This is needed to trigger delta-replication on most servers
-                session.setAttribute(OWB_SESSION_CONTEXT_ATTRIBUTE_NAME, currentSessionContext);
+                if (!replicateDirtySessionsOnly)
+                {
+                    // This is needed to trigger delta-replication on most servers
+                    session.setAttribute(OWB_SESSION_CONTEXT_ATTRIBUTE_NAME, currentSessionContext);
+                }
                 currentSessionContext.setActive(true);
 
                 //Set thread local
@@ -741,15 +864,27 @@ public class WebContextsService extends AbstractContextsService
     
     /**
      * Get current request ctx.
+     * A request context which got started lazily gets created on the first call.
+     * @param create whether a new request context should get started if none is active
      * @return request context
      */
     public ServletRequestContext getRequestContext(boolean create)
     {
         ServletRequestContext requestContext = requestContexts.get();
-        if (requestContext == null && create)
+        if (requestContext == null)
         {
-            initRequestContext(null);
-            requestContext = requestContexts.get();
+            Object pendingRequest = pendingRequests.get();
+            if (pendingRequest != null)
+            {
+                pendingRequests.remove();
+                requestContext = createRequestContext(
+                    pendingRequest instanceof HttpServletRequest ? (HttpServletRequest) pendingRequest : null);
+            }
+            else if (create)
+            {
+                initRequestContext(null);
+                requestContext = getRequestContext(false);
+            }
         }
         return requestContext;
     }
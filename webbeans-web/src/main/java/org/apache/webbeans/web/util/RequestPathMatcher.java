@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.web.util;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precompiled matcher for request paths, used to skip the CDI request context activation
+ * for requests like static resources or health checks.
+ *
+ * <p>The paths get matched against the request URI without the context path.
+ * Supported patterns (comma separated):</p>
+ * <ul>
+ *     <li><code>/health</code> an exact path</li>
+ *     <li><code>/static/*</code> or <code>/static/**</code> the path itself and everything below</li>
+ *     <li><code>*.css</code> all paths with the given extension</li>
+ * </ul>
+ *
+ * A request is excluded if it matches an exclude pattern but none of the include patterns.
+ */
+public final class RequestPathMatcher
+{
+    private final PathPatterns excludes;
+    private final PathPatterns includes;
+
+    private RequestPathMatcher(PathPatterns excludes, PathPatterns includes)
+    {
+        this.excludes = excludes;
+        this.includes = includes;
+    }
+
+    /**
+     * @param excludedPaths comma separated exclude patterns
+     * @param includedPaths comma separated include patterns, may be {@code null}
+     * @return the matcher or {@code null} if there is nothing to exclude
+     */
+    public static RequestPathMatcher create(String excludedPaths, String includedPaths)
+    {
+        PathPatterns excludes = PathPatterns.parse(excludedPaths);
+        if (excludes == null)
+        {
+            return null;
+        }
+        return new RequestPathMatcher(excludes, PathPatterns.parse(includedPaths));
+    }
+
+    public boolean isExcluded(ServletRequest request)
+    {
+        if (!(request instanceof HttpServletRequest))
+        {
+            return false;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String path = httpRequest.getRequestURI();
+        if (path == null)
+        {
+            return false;
+        }
+        String contextPath = httpRequest.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath))
+        {
+            path = path.substring(contextPath.length());
+        }
+        return isExcluded(path);
+    }
+
+    public boolean isExcluded(String path)
+    {
+        return excludes.matches(path) && (includes == null || !includes.matches(path));
+    }
+
+    private static final class PathPatterns
+    {
+        private final Set<String> exactPaths;
+        private final String[] prefixes;
+        private final String[] extensions;
+
+        private PathPatterns(Set<String> exactPaths, String[] prefixes, String[] extensions)
+        {
+            this.exactPaths = exactPaths;
+            this.prefixes = prefixes;
+            this.extensions = extensions;
+        }
+
+        private static PathPatterns parse(String patterns)
+        {
+            if (patterns == null || patterns.trim().isEmpty())
+            {
+                return null;
+            }
+
+            Set<String> exactPaths = new HashSet<>();
+            List<String> prefixes = new ArrayList<>();
+            List<String> extensions = new ArrayList<>();
+            for (String pattern : patterns.split(","))
+            {
+                pattern = pattern.trim();
+                if (pattern.isEmpty())
+                {
+                    continue;
+                }
+
+                if (pattern.startsWith("*."))
+                {
+                    extensions.add(pattern.substring(1));
+                }
+                else if (pattern.endsWith("/**") || pattern.endsWith("/*"))
+                {
+                    String prefix = pattern.substring(0, pattern.lastIndexOf('/') + 1);
+                    prefixes.add(prefix);
+                    exactPaths.add(prefix.substring(0, prefix.length() - 1));
+                }
+                else
+                {
+                    exactPaths.add(pattern);
+                }
+            }
+
+            if (exactPaths.isEmpty() && prefixes.isEmpty() && extensions.isEmpty())
+            {
+                return null;
+            }
+            return new PathPatterns(exactPaths, prefixes.toArray(new String[prefixes.size()]), extensions.toArray(new String[extensions.size()]));
+        }
+
+        private boolean matches(String path)
+        {
+            if (exactPaths.contains(path))
+            {
+                return true;
+            }
+            for (String prefix : prefixes)
+            {
+                if (path.startsWith(prefix))
+                {
+                    return true;
+                }
+            }
+            for (String extension : extensions)
+            {
+                if (path.endsWith(extension))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.webbeans.web.tests;
+
+import org.apache.webbeans.web.util.RequestPathMatcher;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RequestPathMatcherTest
+{
+    @Test
+    public void noExclusions()
+    {
+        assertNull(RequestPathMatcher.create(null, "/api/*"));
+        assertNull(RequestPathMatcher.create(" , ", null));
+    }
+
+    @Test
+    public void patterns()
+    {
+        RequestPathMatcher matcher = RequestPathMatcher.create("/static/**, /assets/*, /health,*.css", null);
+
+        assertTrue(matcher.isExcluded("/static"));
+        assertTrue(matcher.isExcluded("/static/js/app.js"));
+        assertTrue(matcher.isExcluded("/assets/logo.png"));
+        assertTrue(matcher.isExcluded("/health"));
+        assertTrue(matcher.isExcluded("/theme/main.css"));
+
+        assertFalse(matcher.isExcluded("/staticfoo"));
+        assertFalse(matcher.isExcluded("/health/details"));
+        assertFalse(matcher.isExcluded("/index.html"));
+        assertFalse(matcher.isExcluded("/"));
+    }
+
+    @Test
+    public void includesWin()
+    {
+        RequestPathMatcher matcher = RequestPathMatcher.create("/static/**", "/static/dynamic/*");
+
+        assertTrue(matcher.isExcluded("/static/app.js"));
+        assertFalse(matcher.isExcluded("/static/dynamic/page"));
+    }
+}
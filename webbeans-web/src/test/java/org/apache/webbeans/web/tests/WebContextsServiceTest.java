@@ -18,16 +18,26 @@
  */
 package org.apache.webbeans.web.tests;
 
+import org.apache.webbeans.config.OpenWebBeansConfiguration;
 import org.apache.webbeans.config.WebBeansContext;
+import org.apache.webbeans.context.SessionContext;
 import org.apache.webbeans.spi.ContextsService;
 import org.apache.webbeans.web.context.WebContextsService;
+import org.apache.webbeans.web.lifecycle.test.MockServletContext;
 import org.junit.Test;
 
 import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.SessionScoped;
+import javax.servlet.ServletRequestEvent;
+import javax.servlet.http.HttpSession;
 import java.util.HashMap;
 import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class WebContextsServiceTest
@@ -56,4 +66,109 @@ public class WebContextsServiceTest
             // ok
         }
     }
+
+    @Test
+    public void requestContextGetsCreatedLazily()
+    {
+        WebBeansContext webBeansContext = new WebBeansContext(new HashMap<Class<?>, Object>(), new Properties());
+        LazyWebContextsService contextsService = new LazyWebContextsService(webBeansContext);
+        MockServletRequest request = new MockServletRequest();
+
+        contextsService.startContext(RequestScoped.class, new ServletRequestEvent(new MockServletContext(), request));
+        assertNull(contextsService.currentRequestContext());
+
+        assertSame(request, contextsService.getRequestContext(false).getServletRequest());
+        assertNotNull(contextsService.currentRequestContext());
+
+        contextsService.endContext(RequestScoped.class, null);
+        assertNull(contextsService.getRequestContext(false));
+
+        // a request which never needed its context
+        contextsService.startContext(RequestScoped.class, new ServletRequestEvent(new MockServletContext(), request));
+        contextsService.endContext(RequestScoped.class, null);
+        assertNull(contextsService.currentRequestContext());
+        assertNull(contextsService.getRequestContext(false));
+    }
+
+    @Test
+    public void sessionContextOnlyGetsReplicatedIfDirty()
+    {
+        Properties properties = new Properties();
+        properties.setProperty(OpenWebBeansConfiguration.SESSION_REPLICATE_DIRTY_ONLY, "true");
+        WebBeansContext webBeansContext = new WebBeansContext(new HashMap<Class<?>, Object>(), properties);
+        WebContextsService contextsService = new WebContextsService(webBeansContext);
+
+        CountingHttpSession session = new CountingHttpSession();
+        MockServletRequest request = new MockServletRequest()
+        {
+            @Override
+            public HttpSession getSession(boolean create)
+            {
+                return session;
+            }
+        };
+
+        // the first request creates the SessionContext
+        startRequest(contextsService, request);
+        SessionContext sessionContext = contextsService.getSessionContext(true);
+        endRequest(contextsService);
+        assertEquals(1, session.sessionContextUpdates);
+
+        // nothing changed
+        startRequest(contextsService, request);
+        assertSame(sessionContext, contextsService.getSessionContext(true));
+        endRequest(contextsService);
+        assertEquals(1, session.sessionContextUpdates);
+
+        // a session scoped bean got modified
+        startRequest(contextsService, request);
+        contextsService.getSessionContext(true).markDirty();
+        endRequest(contextsService);
+        assertEquals(2, session.sessionContextUpdates);
+
+        // the dirty flag got reset
+        startRequest(contextsService, request);
+        contextsService.getSessionContext(true);
+        endRequest(contextsService);
+        assertEquals(2, session.sessionContextUpdates);
+    }
+
+    private static void startRequest(WebContextsService contextsService, MockServletRequest request)
+    {
+        contextsService.startContext(RequestScoped.class, new ServletRequestEvent(new MockServletContext(), request));
+    }
+
+    private static void endRequest(WebContextsService contextsService)
+    {
+        contextsService.endContext(RequestScoped.class, null);
+        contextsService.removeThreadLocals();
+    }
+
+    private static class CountingHttpSession extends MockHttpSession
+    {
+        private int sessionContextUpdates;
+
+        @Override
+        public void setAttribute(String name, Object value)
+        {
+            if (value instanceof SessionContext)
+            {
+                sessionContextUpdates++;
+            }
+            super.setAttribute(name, value);
+        }
+    }
+
+    private static class LazyWebContextsService extends WebContextsService
+    {
+        LazyWebContextsService(WebBeansContext webBeansContext)
+        {
+            super(webBeansContext);
+        }
+
+        Object currentRequestContext()
+        {
+            return requestContexts.get();
+        }
+    }
 }